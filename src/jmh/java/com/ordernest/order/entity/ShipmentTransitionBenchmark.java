@@ -0,0 +1,21 @@
+package com.ordernest.order.entity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+public class ShipmentTransitionBenchmark {
+
+    private final ShipmentStatus[] statuses = ShipmentStatus.values();
+
+    @Benchmark
+    public void checkAllTransitions(Blackhole blackhole) {
+        for (ShipmentStatus current : statuses) {
+            for (ShipmentStatus next : statuses) {
+                blackhole.consume(current.canTransitionTo(next));
+            }
+        }
+    }
+}
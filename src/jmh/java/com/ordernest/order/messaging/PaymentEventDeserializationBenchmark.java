@@ -0,0 +1,32 @@
+package com.ordernest.order.messaging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ordernest.order.event.PaymentEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// Mirrors the per-record parse in PaymentEventListener, using an ObjectMapper configured like Boot's.
+@State(Scope.Benchmark)
+public class PaymentEventDeserializationBenchmark {
+
+    private static final String PAYLOAD = """
+            {"productId":"d641ef4b-d996-4580-8642-9666349e5f6d","quantity":4,"amount":1599.96,"currency":"INR",\
+            "eventType":"PAYMENT_SUCCESS","orderId":"74f75b15-9d9f-4a68-a0d8-8f1f0dacc939",\
+            "paymentId":"pay_NrX8bX1mYt4Hq2","reason":null,"timestamp":"2026-10-17T10:15:30.123456Z"}""";
+
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public PaymentEvent readPaymentEvent() throws JsonProcessingException {
+        return objectMapper.readValue(PAYLOAD, PaymentEvent.class);
+    }
+}
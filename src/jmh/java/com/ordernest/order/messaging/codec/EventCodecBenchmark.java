@@ -0,0 +1,93 @@
+package com.ordernest.order.messaging.codec;
+
+import com.ordernest.order.entity.OrderStatus;
+import com.ordernest.order.entity.PaymentStatus;
+import com.ordernest.order.entity.ShipmentStatus;
+import com.ordernest.order.event.OrderCancellationEvent;
+import com.ordernest.order.event.OrderCancellationEventType;
+import com.ordernest.order.event.OrderStatusEvent;
+import com.ordernest.order.event.ShipmentStatusEvent;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// Covers what the three outbox publishers do per event, for each selectable app.kafka.event-format.
+@State(Scope.Benchmark)
+public class EventCodecBenchmark {
+
+    @Param({"json", "binary"})
+    private String format;
+
+    private EventCodec codec;
+    private OrderStatusEvent orderStatusEvent;
+    private ShipmentStatusEvent shipmentStatusEvent;
+    private OrderCancellationEvent orderCancellationEvent;
+    private byte[] encodedOrderStatusEvent;
+
+    @Setup
+    public void setUp() {
+        codec = "binary".equals(format)
+                ? new BinaryEventCodec()
+                : new JsonEventCodec(Jackson2ObjectMapperBuilder.json().build());
+
+        String orderId = UUID.randomUUID().toString();
+        Instant now = Instant.now();
+        orderStatusEvent = new OrderStatusEvent(
+                orderId,
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                "Mechanical Keyboard",
+                2,
+                List.of(
+                        new OrderStatusEvent.Item(UUID.randomUUID(), "Mechanical Keyboard", 2, new BigDecimal("7998.00")),
+                        new OrderStatusEvent.Item(UUID.randomUUID(), "Wrist Rest", 1, new BigDecimal("899.50")),
+                        new OrderStatusEvent.Item(UUID.randomUUID(), "Keycap Set", 1, new BigDecimal("2499.00"))
+                ),
+                new BigDecimal("11396.50"),
+                "INR",
+                OrderStatus.CREATED,
+                OrderStatus.CONFIRMED,
+                PaymentStatus.SUCCESS,
+                ShipmentStatus.NOT_CREATED,
+                "Payment completed",
+                now
+        );
+        shipmentStatusEvent = new ShipmentStatusEvent(orderId, ShipmentStatus.SHIPPED, "admin@ordernest.com", now);
+        orderCancellationEvent = new OrderCancellationEvent(
+                UUID.randomUUID(),
+                2,
+                orderId,
+                OrderCancellationEventType.CANCALLED,
+                "User cancelled order",
+                now
+        );
+        encodedOrderStatusEvent = codec.encode(orderStatusEvent);
+    }
+
+    @Benchmark
+    public byte[] encodeOrderStatusEvent() {
+        return codec.encode(orderStatusEvent);
+    }
+
+    @Benchmark
+    public byte[] encodeShipmentStatusEvent() {
+        return codec.encode(shipmentStatusEvent);
+    }
+
+    @Benchmark
+    public byte[] encodeOrderCancellationEvent() {
+        return codec.encode(orderCancellationEvent);
+    }
+
+    @Benchmark
+    public OrderStatusEvent decodeOrderStatusEvent() {
+        return codec.decode(encodedOrderStatusEvent, OrderStatusEvent.class);
+    }
+}
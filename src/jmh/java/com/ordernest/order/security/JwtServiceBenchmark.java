@@ -0,0 +1,49 @@
+package com.ordernest.order.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret";
+
+    private JwtService cachingJwtService;
+    private JwtService nonCachingJwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachingJwtService = new JwtService(SECRET, 10_000, new SimpleMeterRegistry());
+        // A zero-sized cache never stores claims, so every call pays for signature verification.
+        nonCachingJwtService = new JwtService(SECRET, 0, new SimpleMeterRegistry());
+        token = Jwts.builder()
+                .subject("buyer@ordernest.com")
+                .claim("userId", UUID.randomUUID().toString())
+                .claim("role", "USER")
+                .issuedAt(new Date())
+                .expiration(Date.from(Instant.now().plusSeconds(3600)))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+        cachingJwtService.parseAuthenticatedUser(token);
+    }
+
+    @Benchmark
+    public AuthenticatedUser parseCachedToken() {
+        return cachingJwtService.parseAuthenticatedUser(token);
+    }
+
+    @Benchmark
+    public AuthenticatedUser parseAndVerifyToken() {
+        return nonCachingJwtService.parseAuthenticatedUser(token);
+    }
+}
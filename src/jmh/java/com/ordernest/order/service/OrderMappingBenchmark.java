@@ -0,0 +1,93 @@
+package com.ordernest.order.service;
+
+import com.ordernest.order.dto.OrderResponse;
+import com.ordernest.order.entity.CustomerOrder;
+import com.ordernest.order.entity.OrderItem;
+import com.ordernest.order.entity.OrderStatus;
+import com.ordernest.order.entity.PaymentStatus;
+import com.ordernest.order.entity.ShipmentStatus;
+import com.ordernest.order.repository.OrderItemView;
+import com.ordernest.order.repository.OrderView;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class OrderMappingBenchmark {
+
+    @Param({"1", "5", "50"})
+    private int itemCount;
+
+    private CustomerOrder order;
+    private OrderView orderView;
+    private List<OrderItemView> itemViews;
+
+    @Setup
+    public void setUp() {
+        order = new CustomerOrder();
+        order.setId(UUID.randomUUID());
+        order.setUserId(UUID.randomUUID());
+        order.setStatus(OrderStatus.CONFIRMED);
+        order.setPaymentStatus(PaymentStatus.SUCCESS);
+        order.setShipmentStatus(ShipmentStatus.SHIPPED);
+        order.setCurrency("INR");
+        order.setRazorpayPaymentId("pay_benchmark");
+        order.setCreatedAt(Instant.now());
+
+        itemViews = new ArrayList<>(itemCount);
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            OrderItem item = new OrderItem();
+            item.setProductId(UUID.randomUUID());
+            item.setProductName("Product " + i);
+            item.setQuantity(i + 1);
+            item.setUnitPrice(new BigDecimal("199.99"));
+            item.setLineAmount(new BigDecimal("199.99").multiply(BigDecimal.valueOf(i + 1)));
+            item.setCurrency("INR");
+            order.addItem(item);
+            total = total.add(item.getLineAmount());
+            itemViews.add(new OrderItemView(
+                    order.getId(),
+                    item.getProductId(),
+                    item.getProductName(),
+                    item.getQuantity(),
+                    item.getLineAmount(),
+                    item.getCurrency()
+            ));
+        }
+        order.setTotalAmount(total);
+
+        OrderItem firstItem = order.getItems().get(0);
+        orderView = new OrderView(
+                order.getId(),
+                order.getUserId(),
+                firstItem.getProductId(),
+                firstItem.getProductName(),
+                firstItem.getQuantity(),
+                total,
+                "INR",
+                order.getStatus(),
+                order.getPaymentStatus(),
+                order.getRazorpayPaymentId(),
+                order.getShipmentStatus(),
+                order.getCreatedAt()
+        );
+    }
+
+    @Benchmark
+    public OrderResponse mapEntity() {
+        return OrderService.mapToResponse(order);
+    }
+
+    @Benchmark
+    public OrderResponse mapProjection() {
+        return OrderService.mapToResponse(orderView, itemViews);
+    }
+}
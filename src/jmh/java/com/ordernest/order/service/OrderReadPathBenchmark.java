@@ -0,0 +1,145 @@
+package com.ordernest.order.service;
+
+import com.ordernest.order.dto.OrderResponse;
+import com.ordernest.order.entity.CustomerOrder;
+import com.ordernest.order.entity.OrderItem;
+import com.ordernest.order.entity.OrderStatus;
+import com.ordernest.order.entity.PaymentStatus;
+import com.ordernest.order.entity.ShipmentStatus;
+import com.ordernest.order.repository.OrderRepository;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// The same two read paths as OrderMappingBenchmark, but through the repository against a real Postgres,
+// so the cost of hydrating entities and lazy-loading items is included.
+@State(Scope.Benchmark)
+public class OrderReadPathBenchmark {
+
+    private static final int ORDER_COUNT = 1_000;
+
+    @Param({"1", "5", "50"})
+    private int itemCount;
+
+    private EmbeddedPostgres postgres;
+    private ConfigurableApplicationContext context;
+    private OrderRepository orderRepository;
+    private TransactionTemplate readOnly;
+    private List<UUID> orderIds;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        // Arguments rather than default properties, which application.yml would override.
+        context = new SpringApplicationBuilder(PersistenceOnly.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.main.banner-mode=off",
+                        "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                        "--spring.datasource.username=postgres",
+                        "--spring.datasource.password=postgres",
+                        "--logging.level.root=WARN"
+                );
+        orderRepository = context.getBean(OrderRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        orderIds = new ArrayList<>(ORDER_COUNT);
+        List<CustomerOrder> orders = new ArrayList<>(ORDER_COUNT);
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            CustomerOrder order = order();
+            orders.add(order);
+            orderIds.add(order.getId());
+        }
+        orderRepository.saveAll(orders);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.close();
+        postgres.close();
+    }
+
+    // How mutating paths read an order: the entity, then its items lazily, inside one transaction.
+    @Benchmark
+    public OrderResponse findByIdThenMapEntity() {
+        UUID orderId = nextOrderId();
+        return readOnly.execute(status -> OrderService.mapToResponse(orderRepository.findById(orderId).orElseThrow()));
+    }
+
+    // How getOrderById reads an order on a cache miss.
+    @Benchmark
+    public OrderResponse findViewByIdThenMapProjection() {
+        UUID orderId = nextOrderId();
+        return OrderService.mapToResponse(
+                orderRepository.findViewById(orderId).orElseThrow(),
+                orderRepository.findItemViewsByOrderIds(List.of(orderId))
+        );
+    }
+
+    private UUID nextOrderId() {
+        UUID orderId = orderIds.get(next);
+        next = (next + 1) % orderIds.size();
+        return orderId;
+    }
+
+    private CustomerOrder order() {
+        CustomerOrder order = new CustomerOrder();
+        order.setId(UUID.randomUUID());
+        order.setUserId(UUID.randomUUID());
+        order.setStatus(OrderStatus.CONFIRMED);
+        order.setPaymentStatus(PaymentStatus.SUCCESS);
+        order.setShipmentStatus(ShipmentStatus.SHIPPED);
+        order.setCurrency("INR");
+        order.setRazorpayPaymentId("pay_benchmark");
+        order.setCreatedAt(Instant.now());
+
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            OrderItem item = new OrderItem();
+            item.setProductId(UUID.randomUUID());
+            item.setProductName("Product " + i);
+            item.setQuantity(i + 1);
+            item.setUnitPrice(new BigDecimal("199.99"));
+            item.setLineAmount(new BigDecimal("199.99").multiply(BigDecimal.valueOf(i + 1)));
+            item.setCurrency("INR");
+            order.addItem(item);
+            total = total.add(item.getLineAmount());
+        }
+        OrderItem firstItem = order.getItems().get(0);
+        order.setProductId(firstItem.getProductId());
+        order.setProductName(firstItem.getProductName());
+        order.setQuantity(firstItem.getQuantity());
+        order.setTotalAmount(total);
+        return order;
+    }
+
+    // Just the schema, entities and repositories; nothing that needs Kafka or inventory.
+    @Configuration
+    @EnableAutoConfiguration(exclude = KafkaAutoConfiguration.class)
+    @EntityScan(basePackageClasses = CustomerOrder.class)
+    @EnableJpaRepositories(basePackageClasses = OrderRepository.class)
+    static class PersistenceOnly {
+    }
+}
@@ -0,0 +1,64 @@
+package com.ordernest.order.loadtest;
+
+import com.ordernest.order.client.StandInInventoryServer;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// Everyone races for one product with limited stock; the only acceptable outcome is zero oversell.
+final class FlashSaleScenario implements LoadScenario {
+
+    @Override
+    public String name() {
+        return "flash-sale";
+    }
+
+    @Override
+    public ScenarioResult run(LocalEnvironment environment, LoadTestOptions options) throws Exception {
+        StandInInventoryServer inventory = environment.inventory();
+        UUID productId = inventory.addProduct("flash-sale-item", new BigDecimal("49.99"), options.flashSaleStock());
+        OrderApiClient client = new OrderApiClient(environment.orderServiceUri(), environment.objectMapper());
+        String[] tokens = new String[options.concurrency()];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = OrderApiClient.tokenFor(UUID.randomUUID());
+        }
+
+        // No warmup: the point is the contended burst against a fresh stock level.
+        LoadDriver.Run run = LoadDriver.run(options.concurrency(), Duration.ZERO, options.duration(), (worker, recorder) -> {
+            long startedAt = System.nanoTime();
+            try {
+                recorder.record("create_order", client.createOrder(tokens[worker], productId, 1).status(), System.nanoTime() - startedAt);
+            } catch (Exception ex) {
+                recorder.recordError("create_order", System.nanoTime() - startedAt);
+            }
+        });
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(environment.dataSource());
+        Long persisted = jdbcTemplate.queryForObject(
+                "select coalesce(sum(quantity), 0) from orders where product_id = ?",
+                Long.class,
+                productId
+        );
+        long sold = persisted == null ? 0 : persisted;
+        int remaining = inventory.availableQuantity(productId);
+        int openReservations = inventory.openReservations();
+
+        List<String> notes = new ArrayList<>();
+        notes.add("stock %d, persisted %d, remaining %d, open reservations %d, inventory requests %d, injected failures %d"
+                .formatted(options.flashSaleStock(), sold, remaining, openReservations,
+                        inventory.requestCount(), inventory.injectedFailureCount()));
+
+        List<String> violations = new ArrayList<>();
+        if (sold > options.flashSaleStock() || remaining < 0) {
+            violations.add("oversold: %d units persisted against stock of %d".formatted(sold, options.flashSaleStock()));
+        }
+        if (sold + remaining + openReservations != options.flashSaleStock()) {
+            violations.add("stock leak: persisted %d + remaining %d + open %d != %d"
+                    .formatted(sold, remaining, openReservations, options.flashSaleStock()));
+        }
+        return new ScenarioResult(name(), run.elapsedSeconds(), run.recorder().summarize(run.elapsedSeconds()), notes, violations);
+    }
+}
@@ -0,0 +1,89 @@
+package com.ordernest.order.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+// One recorder per worker, merged once the run is over, so the hot path never contends.
+final class LatencyRecorder {
+
+    private final Map<String, Samples> samplesByOperation = new LinkedHashMap<>();
+
+    void record(String operation, int status, long elapsedNanos) {
+        samplesByOperation.computeIfAbsent(operation, ignored -> new Samples()).add(status, elapsedNanos);
+    }
+
+    void recordError(String operation, long elapsedNanos) {
+        record(operation, -1, elapsedNanos);
+    }
+
+    void mergeFrom(LatencyRecorder other) {
+        other.samplesByOperation.forEach((operation, samples) ->
+                samplesByOperation.computeIfAbsent(operation, ignored -> new Samples()).addAll(samples));
+    }
+
+    Map<String, OperationStats> summarize(double elapsedSeconds) {
+        Map<String, OperationStats> summary = new LinkedHashMap<>();
+        samplesByOperation.forEach((operation, samples) -> summary.put(operation, samples.summarize(elapsedSeconds)));
+        return summary;
+    }
+
+    private static final class Samples {
+        private long[] latencies = new long[1024];
+        private int size;
+        private final Map<Integer, Long> statusCounts = new TreeMap<>();
+
+        void add(int status, long elapsedNanos) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = elapsedNanos;
+            statusCounts.merge(status, 1L, Long::sum);
+        }
+
+        void addAll(Samples other) {
+            if (size + other.size > latencies.length) {
+                latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, size + other.size));
+            }
+            System.arraycopy(other.latencies, 0, latencies, size, other.size);
+            size += other.size;
+            other.statusCounts.forEach((status, count) -> statusCounts.merge(status, count, Long::sum));
+        }
+
+        OperationStats summarize(double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return new OperationStats(
+                    size,
+                    elapsedSeconds <= 0 ? 0 : size / elapsedSeconds,
+                    percentileMillis(sorted, 0.50),
+                    percentileMillis(sorted, 0.90),
+                    percentileMillis(sorted, 0.99),
+                    percentileMillis(sorted, 0.999),
+                    size == 0 ? 0 : sorted[size - 1] / 1_000_000.0,
+                    Map.copyOf(statusCounts)
+            );
+        }
+
+        private static double percentileMillis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+        }
+    }
+
+    record OperationStats(
+            long count,
+            double throughput,
+            double p50Millis,
+            double p90Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis,
+            Map<Integer, Long> statusCounts
+    ) {
+    }
+}
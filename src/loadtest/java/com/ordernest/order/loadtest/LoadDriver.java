@@ -0,0 +1,60 @@
+package com.ordernest.order.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Closed-loop driver: each virtual-thread worker issues its next request as soon as the previous one returns.
+final class LoadDriver {
+
+    private LoadDriver() {
+    }
+
+    @FunctionalInterface
+    interface Operation {
+        void run(int workerIndex, LatencyRecorder recorder) throws Exception;
+    }
+
+    static Run run(int concurrency, Duration warmup, Duration duration, Operation operation) throws InterruptedException {
+        if (!warmup.isZero()) {
+            drive(concurrency, warmup, operation);
+        }
+        long startedAt = System.nanoTime();
+        LatencyRecorder recorder = drive(concurrency, duration, operation);
+        return new Run(recorder, (System.nanoTime() - startedAt) / 1_000_000_000.0);
+    }
+
+    private static LatencyRecorder drive(int concurrency, Duration duration, Operation operation) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<LatencyRecorder>> workers = new ArrayList<>(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                int workerIndex = i;
+                workers.add(executor.submit(() -> {
+                    LatencyRecorder recorder = new LatencyRecorder();
+                    while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                        operation.run(workerIndex, recorder);
+                    }
+                    return recorder;
+                }));
+            }
+        }
+
+        LatencyRecorder merged = new LatencyRecorder();
+        for (Future<LatencyRecorder> worker : workers) {
+            try {
+                merged.mergeFrom(worker.get());
+            } catch (ExecutionException ex) {
+                throw new IllegalStateException("Load worker failed", ex.getCause());
+            }
+        }
+        return merged;
+    }
+
+    record Run(LatencyRecorder recorder, double elapsedSeconds) {
+    }
+}
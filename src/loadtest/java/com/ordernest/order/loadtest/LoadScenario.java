@@ -0,0 +1,8 @@
+package com.ordernest.order.loadtest;
+
+interface LoadScenario {
+
+    String name();
+
+    ScenarioResult run(LocalEnvironment environment, LoadTestOptions options) throws Exception;
+}
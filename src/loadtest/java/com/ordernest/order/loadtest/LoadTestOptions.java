@@ -0,0 +1,63 @@
+package com.ordernest.order.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.convert.DurationStyle;
+
+public record LoadTestOptions(
+        List<String> scenarios,
+        Duration duration,
+        Duration warmup,
+        int concurrency,
+        Duration inventoryLatency,
+        Duration inventoryJitter,
+        double inventoryFailureRate,
+        int flashSaleStock,
+        int paymentEvents,
+        boolean virtualThreads,
+        Duration maxP99
+) {
+
+    public static final List<String> ALL_SCENARIOS = List.of("flash-sale", "mixed", "payment-backlog");
+
+    // Arguments are --name=value; anything not given falls back to a default sized for a laptop run.
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        String scenario = values.getOrDefault("scenario", "all");
+        List<String> scenarios = "all".equals(scenario) ? ALL_SCENARIOS : List.of(scenario.split(","));
+        for (String name : scenarios) {
+            if (!ALL_SCENARIOS.contains(name)) {
+                throw new IllegalArgumentException("Unknown scenario '" + name + "', expected one of " + ALL_SCENARIOS);
+            }
+        }
+
+        String maxP99 = values.get("max-p99");
+        return new LoadTestOptions(
+                scenarios,
+                duration(values.getOrDefault("duration", "30s")),
+                duration(values.getOrDefault("warmup", "10s")),
+                Integer.parseInt(values.getOrDefault("concurrency", "64")),
+                duration(values.getOrDefault("inventory-latency", "20ms")),
+                duration(values.getOrDefault("inventory-jitter", "10ms")),
+                Double.parseDouble(values.getOrDefault("inventory-failure-rate", "0")),
+                Integer.parseInt(values.getOrDefault("flash-sale-stock", "500")),
+                Integer.parseInt(values.getOrDefault("payment-events", "5000")),
+                Boolean.parseBoolean(values.getOrDefault("virtual-threads", "false")),
+                maxP99 == null ? null : duration(maxP99)
+        );
+    }
+
+    private static Duration duration(String value) {
+        return DurationStyle.detectAndParse(value);
+    }
+}
@@ -0,0 +1,38 @@
+package com.ordernest.order.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public final class LoadTestRunner {
+
+    private static final Map<String, LoadScenario> SCENARIOS = Map.of(
+            "flash-sale", new FlashSaleScenario(),
+            "mixed", new MixedReadWriteScenario(),
+            "payment-backlog", new PaymentBacklogScenario()
+    );
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        System.out.println("Load test options: " + options);
+
+        List<String> failures = new ArrayList<>();
+        try (LocalEnvironment environment = LocalEnvironment.start(options)) {
+            for (String name : options.scenarios()) {
+                ScenarioResult result = SCENARIOS.get(name).run(environment, options);
+                result.print();
+                result.gateFailures(options.maxP99()).forEach(failure -> failures.add(name + ": " + failure));
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            System.out.println();
+            failures.forEach(failure -> System.out.println("FAILED " + failure));
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+}
@@ -0,0 +1,115 @@
+package com.ordernest.order.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ordernest.order.OrderServiceApplication;
+import com.ordernest.order.client.StandInInventoryServer;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+// Everything the order service talks to, started in-process: Postgres, a single-node KRaft broker and inventory.
+public final class LocalEnvironment implements AutoCloseable {
+
+    static final String JWT_SECRET = "loadtest-secret-loadtest-secret-loadtest-secret";
+    static final String PAYMENT_EVENTS_TOPIC = "payment.events";
+    private static final int PARTITIONS = 6;
+
+    private final ObjectMapper objectMapper;
+    private final EmbeddedPostgres postgres;
+    private final EmbeddedKafkaKraftBroker kafka;
+    private final StandInInventoryServer inventory;
+    private final ConfigurableApplicationContext application;
+
+    private LocalEnvironment(
+            ObjectMapper objectMapper,
+            EmbeddedPostgres postgres,
+            EmbeddedKafkaKraftBroker kafka,
+            StandInInventoryServer inventory,
+            ConfigurableApplicationContext application
+    ) {
+        this.objectMapper = objectMapper;
+        this.postgres = postgres;
+        this.kafka = kafka;
+        this.inventory = inventory;
+        this.application = application;
+    }
+
+    public static LocalEnvironment start(LoadTestOptions options) throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        EmbeddedPostgres postgres = EmbeddedPostgres.start();
+
+        EmbeddedKafkaKraftBroker kafka = new EmbeddedKafkaKraftBroker(
+                1,
+                PARTITIONS,
+                PAYMENT_EVENTS_TOPIC,
+                "shipment.events",
+                "order.cancelled.events",
+                "order.status.events",
+                "order.cache.invalidations"
+        );
+        kafka.afterPropertiesSet();
+
+        StandInInventoryServer inventory = new StandInInventoryServer(
+                objectMapper,
+                options.inventoryLatency(),
+                options.inventoryJitter(),
+                options.inventoryFailureRate()
+        );
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("management.server.port", 0);
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("spring.datasource.url", postgres.getJdbcUrl("postgres", "postgres"));
+        properties.put("spring.datasource.username", "postgres");
+        properties.put("spring.datasource.password", "postgres");
+        properties.put("spring.kafka.bootstrap-servers", kafka.getBrokersAsString());
+        properties.put("spring.kafka.properties.security.protocol", "PLAINTEXT");
+        properties.put("spring.threads.virtual.enabled", options.virtualThreads());
+        properties.put("app.inventory.base-url", inventory.baseUrl());
+        properties.put("app.jwt.secret", JWT_SECRET);
+        properties.put("logging.level.root", "WARN");
+
+        // Passed as arguments rather than default properties, which application.yml would override.
+        ConfigurableApplicationContext application = new SpringApplicationBuilder(OrderServiceApplication.class)
+                .run(properties.entrySet().stream()
+                        .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                        .toArray(String[]::new));
+        return new LocalEnvironment(objectMapper, postgres, kafka, inventory, application);
+    }
+
+    public ObjectMapper objectMapper() {
+        return objectMapper;
+    }
+
+    public URI orderServiceUri() {
+        return URI.create("http://127.0.0.1:" + application.getEnvironment().getProperty("local.server.port"));
+    }
+
+    public DataSource dataSource() {
+        return postgres.getPostgresDatabase();
+    }
+
+    public String kafkaBootstrapServers() {
+        return kafka.getBrokersAsString();
+    }
+
+    public StandInInventoryServer inventory() {
+        return inventory;
+    }
+
+    @Override
+    public void close() throws IOException {
+        application.close();
+        inventory.close();
+        kafka.destroy();
+        postgres.close();
+    }
+}
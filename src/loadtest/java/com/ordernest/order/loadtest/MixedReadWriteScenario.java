@@ -0,0 +1,71 @@
+package com.ordernest.order.loadtest;
+
+import com.ordernest.order.client.StandInInventoryServer;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Steady-state traffic: mostly order lookups, some history listing, a trickle of new orders.
+final class MixedReadWriteScenario implements LoadScenario {
+
+    private static final int SEED_ORDERS_PER_USER = 5;
+
+    @Override
+    public String name() {
+        return "mixed";
+    }
+
+    @Override
+    public ScenarioResult run(LocalEnvironment environment, LoadTestOptions options) throws Exception {
+        StandInInventoryServer inventory = environment.inventory();
+        List<UUID> productIds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            productIds.add(inventory.addProduct("catalog-item-" + i, new BigDecimal("19.99"), Integer.MAX_VALUE / 2));
+        }
+        OrderApiClient client = new OrderApiClient(environment.orderServiceUri(), environment.objectMapper());
+
+        int users = options.concurrency();
+        String[] tokens = new String[users];
+        List<List<UUID>> ordersByUser = new ArrayList<>(users);
+        for (int user = 0; user < users; user++) {
+            tokens[user] = OrderApiClient.tokenFor(UUID.randomUUID());
+            List<UUID> orderIds = new ArrayList<>();
+            for (int i = 0; i < SEED_ORDERS_PER_USER; i++) {
+                OrderApiClient.Response response = client.createOrder(tokens[user], productIds.get(i % productIds.size()), 1);
+                if (response.status() == 201) {
+                    orderIds.add(client.orderIdOf(response));
+                }
+            }
+            if (orderIds.isEmpty()) {
+                throw new IllegalStateException("Could not seed orders; is the inventory stand-in failing every request?");
+            }
+            ordersByUser.add(orderIds);
+        }
+
+        LoadDriver.Run run = LoadDriver.run(options.concurrency(), options.warmup(), options.duration(), (worker, recorder) -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int roll = random.nextInt(100);
+            String operation = roll < 70 ? "get_order" : roll < 85 ? "list_orders" : "create_order";
+            long startedAt = System.nanoTime();
+            try {
+                OrderApiClient.Response response = switch (operation) {
+                    case "get_order" -> {
+                        List<UUID> orderIds = ordersByUser.get(worker);
+                        yield client.getOrder(tokens[worker], orderIds.get(random.nextInt(orderIds.size())));
+                    }
+                    case "list_orders" -> client.getMyOrders(tokens[worker]);
+                    default -> client.createOrder(tokens[worker], productIds.get(random.nextInt(productIds.size())), 1);
+                };
+                recorder.record(operation, response.status(), System.nanoTime() - startedAt);
+            } catch (Exception ex) {
+                recorder.recordError(operation, System.nanoTime() - startedAt);
+            }
+        });
+
+        List<String> notes = List.of("seeded %d orders across %d users, inventory requests %d, injected failures %d"
+                .formatted(users * SEED_ORDERS_PER_USER, users, inventory.requestCount(), inventory.injectedFailureCount()));
+        return new ScenarioResult(name(), run.elapsedSeconds(), run.recorder().summarize(run.elapsedSeconds()), notes, List.of());
+    }
+}
@@ -0,0 +1,83 @@
+package com.ordernest.order.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+class OrderApiClient {
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private final URI baseUri;
+    private final ObjectMapper objectMapper;
+
+    OrderApiClient(URI baseUri, ObjectMapper objectMapper) {
+        this.baseUri = baseUri;
+        this.objectMapper = objectMapper;
+    }
+
+    static String tokenFor(UUID userId) {
+        return "Bearer " + Jwts.builder()
+                .subject("loadtest-" + userId + "@ordernest.com")
+                .claim("userId", userId.toString())
+                .claim("role", "USER")
+                .issuedAt(new Date())
+                .expiration(Date.from(Instant.now().plus(Duration.ofHours(12))))
+                .signWith(Keys.hmacShaKeyFor(LocalEnvironment.JWT_SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    Response createOrder(String token, UUID productId, int quantity) throws IOException, InterruptedException {
+        byte[] body = objectMapper.writeValueAsBytes(Map.of("item", Map.of("productId", productId, "quantity", quantity)));
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/api/orders"))
+                .header("Authorization", token)
+                .header("Content-Type", "application/json")
+                .header("Idempotency-Key", UUID.randomUUID().toString())
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+        return send(request);
+    }
+
+    Response getOrder(String token, UUID orderId) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(baseUri.resolve("/api/orders/" + orderId))
+                .header("Authorization", token)
+                .GET()
+                .build());
+    }
+
+    Response getMyOrders(String token) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(baseUri.resolve("/api/orders/me?limit=20"))
+                .header("Authorization", token)
+                .GET()
+                .build());
+    }
+
+    UUID orderIdOf(Response response) throws IOException {
+        JsonNode orderId = objectMapper.readTree(response.body()).get("orderId");
+        return orderId == null ? null : UUID.fromString(orderId.asText());
+    }
+
+    private Response send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        return new Response(response.statusCode(), response.body());
+    }
+
+    record Response(int status, byte[] body) {
+    }
+}
@@ -0,0 +1,120 @@
+package com.ordernest.order.loadtest;
+
+import com.ordernest.order.event.PaymentEvent;
+import com.ordernest.order.event.PaymentEventType;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// Dumps a burst of PAYMENT_SUCCESS events on the topic at once and measures how fast the consumer drains it.
+final class PaymentBacklogScenario implements LoadScenario {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofMinutes(5);
+
+    @Override
+    public String name() {
+        return "payment-backlog";
+    }
+
+    @Override
+    public ScenarioResult run(LocalEnvironment environment, LoadTestOptions options) throws Exception {
+        UUID productId = environment.inventory().addProduct("backlog-item", new BigDecimal("9.99"), Integer.MAX_VALUE / 2);
+        OrderApiClient client = new OrderApiClient(environment.orderServiceUri(), environment.objectMapper());
+        List<UUID> orderIds = seedOrders(client, productId, options);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(environment.dataSource());
+        long confirmedBefore = countConfirmed(jdbcTemplate);
+
+        Properties producerProperties = new Properties();
+        producerProperties.putAll(Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, environment.kafkaBootstrapServers(),
+                ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName(),
+                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName(),
+                ProducerConfig.LINGER_MS_CONFIG, 5
+        ));
+        long producedAt;
+        try (KafkaProducer<String, String> producer = new KafkaProducer<>(producerProperties)) {
+            for (UUID orderId : orderIds) {
+                PaymentEvent event = new PaymentEvent(
+                        productId,
+                        1,
+                        new BigDecimal("9.99"),
+                        "INR",
+                        PaymentEventType.PAYMENT_SUCCESS,
+                        orderId.toString(),
+                        "pay_" + orderId.toString().replace("-", "").substring(0, 14),
+                        null,
+                        Instant.now()
+                );
+                producer.send(new ProducerRecord<>(
+                        LocalEnvironment.PAYMENT_EVENTS_TOPIC,
+                        orderId.toString(),
+                        environment.objectMapper().writeValueAsString(event)
+                ));
+            }
+            producer.flush();
+            producedAt = System.nanoTime();
+        }
+
+        long expected = confirmedBefore + orderIds.size();
+        long deadline = producedAt + DRAIN_TIMEOUT.toNanos();
+        long confirmed = confirmedBefore;
+        while (confirmed < expected && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            confirmed = countConfirmed(jdbcTemplate);
+        }
+        double drainSeconds = (System.nanoTime() - producedAt) / 1_000_000_000.0;
+        long drained = confirmed - confirmedBefore;
+
+        List<String> notes = List.of(
+                "produced %d payment events, confirmed %d orders in %.2fs (%.1f events/s)"
+                        .formatted(orderIds.size(), drained, drainSeconds, drained / drainSeconds)
+        );
+        List<String> violations = drained < orderIds.size()
+                ? List.of("backlog not drained within %s: %d of %d orders confirmed".formatted(DRAIN_TIMEOUT, drained, orderIds.size()))
+                : List.of();
+        return new ScenarioResult(name(), drainSeconds, Map.of(), notes, violations);
+    }
+
+    private List<UUID> seedOrders(OrderApiClient client, UUID productId, LoadTestOptions options) throws Exception {
+        List<UUID> orderIds = Collections.synchronizedList(new ArrayList<>(options.paymentEvents()));
+        String token = OrderApiClient.tokenFor(UUID.randomUUID());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            int perWorker = (options.paymentEvents() + options.concurrency() - 1) / options.concurrency();
+            for (int worker = 0; worker < options.concurrency(); worker++) {
+                int count = Math.min(perWorker, options.paymentEvents() - worker * perWorker);
+                executor.submit(() -> {
+                    for (int i = 0; i < count; i++) {
+                        OrderApiClient.Response response = client.createOrder(token, productId, 1);
+                        if (response.status() == 201) {
+                            orderIds.add(client.orderIdOf(response));
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+        if (orderIds.size() < options.paymentEvents()) {
+            System.out.printf("payment-backlog: seeded %d of %d orders%n", orderIds.size(), options.paymentEvents());
+        }
+        return orderIds;
+    }
+
+    private static long countConfirmed(JdbcTemplate jdbcTemplate) {
+        Long count = jdbcTemplate.queryForObject("select count(*) from orders where status = 'CONFIRMED'", Long.class);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,48 @@
+package com.ordernest.order.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+record ScenarioResult(
+        String scenario,
+        double elapsedSeconds,
+        Map<String, LatencyRecorder.OperationStats> operations,
+        List<String> notes,
+        List<String> violations
+) {
+
+    void print() {
+        System.out.printf("%n=== %s (%.1fs) ===%n", scenario, elapsedSeconds);
+        System.out.printf("%-14s %9s %9s %9s %9s %9s %9s %9s  %s%n",
+                "operation", "count", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "statuses");
+        operations.forEach((operation, stats) -> System.out.printf(
+                "%-14s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f  %s%n",
+                operation,
+                stats.count(),
+                stats.throughput(),
+                stats.p50Millis(),
+                stats.p90Millis(),
+                stats.p99Millis(),
+                stats.p999Millis(),
+                stats.maxMillis(),
+                stats.statusCounts()
+        ));
+        notes.forEach(note -> System.out.println("  " + note));
+        violations.forEach(violation -> System.out.println("  VIOLATION: " + violation));
+    }
+
+    List<String> gateFailures(Duration maxP99) {
+        List<String> failures = new ArrayList<>(violations);
+        if (maxP99 != null) {
+            double limitMillis = maxP99.toNanos() / 1_000_000.0;
+            operations.forEach((operation, stats) -> {
+                if (stats.p99Millis() > limitMillis) {
+                    failures.add("%s p99 %.2f ms exceeds %.2f ms".formatted(operation, stats.p99Millis(), limitMillis));
+                }
+            });
+        }
+        return failures;
+    }
+}
@@ -0,0 +1,12 @@
+package com.ordernest.order.client;
+
+public record CircuitBreakerStats(
+        String state,
+        int bufferedCalls,
+        double failureRate,
+        double slowCallRate,
+        long notPermittedCalls,
+        long bulkheadRejections,
+        int availableConcurrentCalls
+) {
+}
@@ -0,0 +1,9 @@
+package com.ordernest.order.client;
+
+public record ConnectionPoolStats(
+        int leased,
+        int available,
+        int pending,
+        int max
+) {
+}
@@ -0,0 +1,249 @@
+package com.ordernest.order.client;
+
+import com.ordernest.order.exception.ServiceUnavailableException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+
+@Slf4j
+@Component
+public class InventoryCircuitBreaker {
+
+    private static final byte SUCCESS = 0;
+    private static final byte FAILURE = 1;
+    private static final byte SLOW = 2;
+    private static final byte SLOW_FAILURE = FAILURE | SLOW;
+    private static final Duration BULKHEAD_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final long bulkheadMaxWaitNanos;
+    private final Semaphore bulkhead;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // Count-based rolling window of the most recent outcomes, guarded by lock.
+    private final byte[] window;
+    private int windowPosition;
+    private int bufferedCalls;
+    private int failedCalls;
+    private int slowCalls;
+
+    private volatile State state = State.CLOSED;
+    private volatile long openUntilNanos;
+    private final AtomicInteger halfOpenPermits = new AtomicInteger();
+    private final AtomicInteger halfOpenSuccesses = new AtomicInteger();
+
+    private final LongAdder notPermittedCalls = new LongAdder();
+    private final LongAdder bulkheadRejections = new LongAdder();
+
+    public InventoryCircuitBreaker(
+            @Value("${app.inventory.circuit-breaker.window-size:50}") int windowSize,
+            @Value("${app.inventory.circuit-breaker.minimum-calls:20}") int minimumCalls,
+            @Value("${app.inventory.circuit-breaker.failure-rate-threshold:50}") double failureRateThreshold,
+            @Value("${app.inventory.circuit-breaker.slow-call-threshold:2s}") Duration slowCallThreshold,
+            @Value("${app.inventory.circuit-breaker.slow-call-rate-threshold:80}") double slowCallRateThreshold,
+            @Value("${app.inventory.circuit-breaker.open-duration:10s}") Duration openDuration,
+            @Value("${app.inventory.circuit-breaker.half-open-calls:5}") int halfOpenCalls,
+            @Value("${app.inventory.bulkhead.max-concurrent-calls:50}") int maxConcurrentCalls,
+            @Value("${app.inventory.bulkhead.max-wait:50ms}") Duration bulkheadMaxWait
+    ) {
+        this.window = new byte[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallNanos = slowCallThreshold.toNanos();
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.bulkheadMaxWaitNanos = bulkheadMaxWait.toNanos();
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        acquirePermission();
+        if (!acquireBulkhead()) {
+            releasePermission();
+            bulkheadRejections.increment();
+            throw new ServiceUnavailableException("Inventory service is busy, please retry", BULKHEAD_RETRY_AFTER);
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            record(outcome(false, System.nanoTime() - start));
+            return result;
+        } catch (RuntimeException ex) {
+            record(outcome(isFailure(ex), System.nanoTime() - start));
+            throw ex;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public CircuitBreakerStats stats() {
+        lock.lock();
+        try {
+            return new CircuitBreakerStats(
+                    state.name(),
+                    bufferedCalls,
+                    rate(failedCalls),
+                    rate(slowCalls),
+                    notPermittedCalls.sum(),
+                    bulkheadRejections.sum(),
+                    bulkhead.availablePermits()
+            );
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void acquirePermission() {
+        if (state == State.CLOSED) {
+            return;
+        }
+
+        if (state == State.OPEN) {
+            long remaining = openUntilNanos - System.nanoTime();
+            if (remaining > 0) {
+                reject(Duration.ofNanos(remaining));
+            }
+            transitionToHalfOpen();
+        }
+
+        if (state == State.HALF_OPEN && halfOpenPermits.getAndDecrement() <= 0) {
+            halfOpenPermits.incrementAndGet();
+            reject(Duration.ofNanos(openNanos));
+        }
+    }
+
+    private void releasePermission() {
+        if (state == State.HALF_OPEN) {
+            halfOpenPermits.incrementAndGet();
+        }
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(bulkheadMaxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void reject(Duration retryAfter) {
+        notPermittedCalls.increment();
+        throw new ServiceUnavailableException("Inventory service is temporarily unavailable, please retry", retryAfter);
+    }
+
+    private void record(byte outcome) {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                if (outcome != SUCCESS) {
+                    transitionToOpen();
+                } else if (halfOpenSuccesses.incrementAndGet() >= halfOpenCalls) {
+                    transitionToClosed();
+                }
+                return;
+            }
+            if (state == State.OPEN) {
+                return;
+            }
+
+            if (bufferedCalls == window.length) {
+                forget(window[windowPosition]);
+            } else {
+                bufferedCalls++;
+            }
+            window[windowPosition] = outcome;
+            windowPosition = (windowPosition + 1) % window.length;
+            if ((outcome & FAILURE) != 0) {
+                failedCalls++;
+            }
+            if ((outcome & SLOW) != 0) {
+                slowCalls++;
+            }
+
+            if (bufferedCalls >= minimumCalls
+                    && (rate(failedCalls) >= failureRateThreshold || rate(slowCalls) >= slowCallRateThreshold)) {
+                log.warn("Opening inventory circuit breaker: failureRate={}%, slowCallRate={}% over {} calls",
+                        rate(failedCalls), rate(slowCalls), bufferedCalls);
+                transitionToOpen();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void transitionToOpen() {
+        openUntilNanos = System.nanoTime() + openNanos;
+        state = State.OPEN;
+    }
+
+    private void transitionToHalfOpen() {
+        lock.lock();
+        try {
+            if (state == State.OPEN && openUntilNanos - System.nanoTime() <= 0) {
+                halfOpenPermits.set(halfOpenCalls);
+                halfOpenSuccesses.set(0);
+                state = State.HALF_OPEN;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void transitionToClosed() {
+        windowPosition = 0;
+        bufferedCalls = 0;
+        failedCalls = 0;
+        slowCalls = 0;
+        state = State.CLOSED;
+        log.info("Inventory circuit breaker closed");
+    }
+
+    private void forget(byte outcome) {
+        if ((outcome & FAILURE) != 0) {
+            failedCalls--;
+        }
+        if ((outcome & SLOW) != 0) {
+            slowCalls--;
+        }
+    }
+
+    private double rate(int calls) {
+        return bufferedCalls == 0 ? 0 : calls * 100.0 / bufferedCalls;
+    }
+
+    private byte outcome(boolean failed, long elapsedNanos) {
+        boolean slow = elapsedNanos >= slowCallNanos;
+        if (failed) {
+            return slow ? SLOW_FAILURE : FAILURE;
+        }
+        return slow ? SLOW : SUCCESS;
+    }
+
+    // Client errors (404, 409, 401...) mean inventory answered; only server errors and transport failures count.
+    private boolean isFailure(RuntimeException ex) {
+        if (ex instanceof RestClientResponseException responseEx) {
+            int status = responseEx.getStatusCode().value();
+            return status >= 500 || status == 429;
+        }
+        return ex instanceof RestClientException;
+    }
+}
@@ -1,9 +1,22 @@
 package com.ordernest.order.client;
 
 import com.ordernest.order.exception.BadRequestException;
+import com.ordernest.order.exception.ResourceNotFoundException;
+import com.ordernest.order.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
@@ -12,21 +25,108 @@ import org.springframework.web.client.RestClientResponseException;
 @Component
 public class InventoryClient {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final RestClient restClient;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final InventoryCircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final ProductCatalogCache productCache;
+    private final String serviceAuthorization;
+
+    public InventoryClient(
+            @Qualifier("inventoryRestClient") RestClient restClient,
+            PoolingHttpClientConnectionManager inventoryConnectionManager,
+            InventoryCircuitBreaker circuitBreaker,
+            MeterRegistry meterRegistry,
+            @Value("${app.inventory.product-cache.static-ttl:5m}") Duration staticTtl,
+            @Value("${app.inventory.product-cache.quantity-ttl:2s}") Duration quantityTtl,
+            @Value("${app.inventory.product-cache.stale-while-revalidate:5s}") Duration staleWhileRevalidate,
+            @Value("${app.inventory.product-cache.max-size:10000}") int maxSize,
+            @Value("${app.inventory.service-token:}") String serviceToken,
+            @Qualifier("applicationTaskExecutor") Executor refreshExecutor
+    ) {
+        this.restClient = restClient;
+        this.connectionManager = inventoryConnectionManager;
+        this.circuitBreaker = circuitBreaker;
+        this.meterRegistry = meterRegistry;
+        this.serviceAuthorization = serviceToken == null || serviceToken.isBlank() ? null : "Bearer " + serviceToken.trim();
+        this.productCache = new ProductCatalogCache(
+                staticTtl,
+                quantityTtl,
+                staleWhileRevalidate,
+                maxSize,
+                refreshExecutor,
+                id -> fetchProduct(id, serviceAuthorization)
+        );
+    }
+
+    // Credential for calls made on the service's own behalf rather than a user's request.
+    public String serviceAuthorization() {
+        return serviceAuthorization;
+    }
+
+    public InventoryProductResponse getProductDetails(UUID productId, String authorization) {
+        return productCache.getDetails(productId, id -> fetchProduct(id, authorization));
+    }
+
+    public Map<UUID, InventoryProductResponse> getProductsDetails(Collection<UUID> productIds, String authorization) {
+        return productCache.getAllDetails(productIds, ids -> fetchProducts(ids, authorization));
+    }
+
+    public ProductCacheStats getProductCacheStats() {
+        return productCache.stats();
+    }
+
+    public ConnectionPoolStats getConnectionPoolStats() {
+        PoolStats totals = connectionManager.getTotalStats();
+        return new ConnectionPoolStats(totals.getLeased(), totals.getAvailable(), totals.getPending(), totals.getMax());
+    }
+
+    public CircuitBreakerStats getCircuitBreakerStats() {
+        return circuitBreaker.stats();
+    }
+
+    private <T> T exchange(String operation, RestClient.RequestHeadersSpec<?> requestSpec, Class<T> responseType) {
+        return timed(operation, () -> circuitBreaker.execute(() -> requestSpec.retrieve().body(responseType)));
+    }
+
+    // Commit and release settle stock that is already reserved, so an open breaker or a full bulkhead must not reject them.
+    // They are bounded by the HTTP client's timeouts and retried durably by the reservation completer instead.
+    private <T> T exchangeUnguarded(String operation, RestClient.RequestHeadersSpec<?> requestSpec, Class<T> responseType) {
+        return timed(operation, () -> requestSpec.retrieve().body(responseType));
+    }
+
+    private <T> T timed(String operation, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return call.get();
+        } catch (RuntimeException ex) {
+            outcome = outcomeOf(ex);
+            throw ex;
+        } finally {
+            sample.stop(meterRegistry.timer("ordernest.inventory.requests", "operation", operation, "outcome", outcome));
+        }
+    }
 
-    public InventoryClient(@Value("${app.inventory.base-url}") String inventoryBaseUrl) {
-        this.restClient = RestClient.builder()
-                .baseUrl(inventoryBaseUrl)
-                .build();
+    private String outcomeOf(RuntimeException ex) {
+        if (ex instanceof ServiceUnavailableException) {
+            return "rejected";
+        }
+        if (ex instanceof RestClientResponseException responseEx) {
+            return responseEx.getStatusCode().is4xxClientError() ? "client_error" : "server_error";
+        }
+        return "io_error";
     }
 
-    public InventoryProductResponse getProductById(UUID productId, String authorization) {
+    private InventoryProductResponse fetchProduct(UUID productId, String authorization) {
         try {
             RestClient.RequestHeadersSpec<?> requestSpec = restClient.get().uri("/api/products/{id}", productId);
             if (authorization != null && !authorization.isBlank()) {
                 requestSpec = requestSpec.header("Authorization", authorization);
             }
-            InventoryProductResponse response = requestSpec.retrieve().body(InventoryProductResponse.class);
+            InventoryProductResponse response = exchange("get_product", requestSpec, InventoryProductResponse.class);
 
             if (response == null || response.id() == null) {
                 throw new BadRequestException("Inventory response is invalid for product id: " + productId);
@@ -45,28 +145,147 @@ public class InventoryClient {
         }
     }
 
-    public void updateProductStock(UUID productId, int newAvailableQuantity, String authorization) {
+    private List<InventoryProductResponse> fetchProducts(List<UUID> productIds, String authorization) {
+        if (productIds.size() == 1) {
+            return List.of(fetchProduct(productIds.get(0), authorization));
+        }
+
         try {
-            RestClient.RequestBodySpec requestSpec = restClient.method(HttpMethod.PATCH)
-                    .uri("/api/products/{id}/stock", productId);
+            RestClient.RequestHeadersSpec<?> requestSpec = restClient.get()
+                    .uri(uriBuilder -> uriBuilder.path("/api/products").queryParam("ids", productIds.toArray()).build());
+            if (authorization != null && !authorization.isBlank()) {
+                requestSpec = requestSpec.header("Authorization", authorization);
+            }
+            InventoryProductResponse[] response = exchange("get_products", requestSpec, InventoryProductResponse[].class);
+            return response == null ? List.of() : Arrays.asList(response);
+        } catch (RestClientResponseException ex) {
+            if (ex.getStatusCode().value() == 401 || ex.getStatusCode().value() == 403) {
+                throw new BadRequestException("Unauthorized to verify product in inventory");
+            }
+            throw new BadRequestException("Unable to verify inventory right now");
+        } catch (RestClientException ex) {
+            throw new BadRequestException("Unable to verify inventory right now");
+        }
+    }
 
+    public InventoryReservationResponse reserveStock(
+            UUID orderId,
+            List<InventoryReservationRequest.Item> items,
+            String authorization
+    ) {
+        InventoryReservationRequest request = new InventoryReservationRequest(orderId, items);
+        try {
+            RestClient.RequestBodySpec requestSpec = restClient.post()
+                    .uri("/api/reservations")
+                    .header(IDEMPOTENCY_KEY_HEADER, "order-" + orderId + "-reserve");
             if (authorization != null && !authorization.isBlank()) {
                 requestSpec = requestSpec.header("Authorization", authorization);
             }
 
-            requestSpec.body(new InventoryStockUpdateRequest(newAvailableQuantity))
-                    .retrieve()
-                    .toBodilessEntity();
+            InventoryReservationResponse response = exchange("reserve", requestSpec.body(request), InventoryReservationResponse.class);
+            if (response == null) {
+                throw new BadRequestException("Inventory reservation response is invalid for order id: " + orderId);
+            }
+            writeThroughAvailableQuantities(response);
+            return response;
         } catch (RestClientResponseException ex) {
+            items.forEach(item -> productCache.invalidate(item.productId()));
             if (ex.getStatusCode().value() == 404) {
-                throw new BadRequestException("Product not found while updating inventory: " + productId);
+                throw new BadRequestException("Product not found in inventory for order id: " + orderId);
+            }
+            if (ex.getStatusCode().value() == 409) {
+                throw new BadRequestException("Insufficient inventory for one or more items in order id: " + orderId);
             }
             if (ex.getStatusCode().value() == 401 || ex.getStatusCode().value() == 403) {
-                throw new BadRequestException("Unauthorized to update inventory");
+                throw new BadRequestException("Unauthorized to reserve inventory");
             }
-            throw new BadRequestException("Unable to update inventory right now");
+            throw new BadRequestException("Unable to reserve inventory right now");
         } catch (RestClientException ex) {
-            throw new BadRequestException("Unable to update inventory right now");
+            items.forEach(item -> productCache.invalidate(item.productId()));
+            throw new BadRequestException("Unable to reserve inventory right now");
+        }
+    }
+
+    public List<InventoryReservationResponse> reserveStockBulk(
+            List<InventoryReservationRequest> reservations,
+            String authorization
+    ) {
+        try {
+            // No batch-level Idempotency-Key: inventory already dedupes each reservation by its orderId.
+            RestClient.RequestBodySpec requestSpec = restClient.post().uri("/api/reservations/bulk");
+            if (authorization != null && !authorization.isBlank()) {
+                requestSpec = requestSpec.header("Authorization", authorization);
+            }
+
+            InventoryReservationResponse[] response = exchange("reserve_bulk", requestSpec.body(reservations), InventoryReservationResponse[].class);
+            if (response == null) {
+                return List.of();
+            }
+            for (InventoryReservationResponse reservation : response) {
+                writeThroughAvailableQuantities(reservation);
+            }
+            return Arrays.asList(response);
+        } catch (RestClientResponseException ex) {
+            if (ex.getStatusCode().value() == 401 || ex.getStatusCode().value() == 403) {
+                throw new BadRequestException("Unauthorized to reserve inventory");
+            }
+            throw new BadRequestException("Unable to reserve inventory right now");
+        } catch (RestClientException ex) {
+            throw new BadRequestException("Unable to reserve inventory right now");
+        }
+    }
+
+    public void commitReservations(List<UUID> orderIds, String authorization) {
+        completeReservations(orderIds, "commit", authorization);
+    }
+
+    public void releaseReservations(List<UUID> orderIds, String authorization) {
+        completeReservations(orderIds, "release", authorization);
+    }
+
+    private void completeReservations(List<UUID> orderIds, String action, String authorization) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            RestClient.RequestBodySpec requestSpec;
+            if (orderIds.size() == 1) {
+                requestSpec = restClient.post()
+                        .uri("/api/reservations/{orderId}/" + action, orderIds.get(0))
+                        .header(IDEMPOTENCY_KEY_HEADER, "order-" + orderIds.get(0) + "-" + action);
+            } else {
+                requestSpec = restClient.post()
+                        .uri("/api/reservations/bulk/" + action)
+                        .header(IDEMPOTENCY_KEY_HEADER, "orders-" + orderIds.get(0) + "-" + orderIds.size() + "-" + action)
+                        .body(new InventoryReservationBatchRequest(orderIds));
+            }
+            if (authorization != null && !authorization.isBlank()) {
+                requestSpec = requestSpec.header("Authorization", authorization);
+            }
+
+            exchangeUnguarded(action, requestSpec, Void.class);
+        } catch (RestClientResponseException ex) {
+            if (ex.getStatusCode().value() == 404) {
+                throw new ResourceNotFoundException("Inventory reservation not found for order ids: " + orderIds);
+            }
+            if (ex.getStatusCode().value() == 401 || ex.getStatusCode().value() == 403) {
+                throw new BadRequestException("Unauthorized to " + action + " inventory reservation");
+            }
+            throw new BadRequestException("Unable to " + action + " inventory reservation right now");
+        } catch (RestClientException ex) {
+            throw new BadRequestException("Unable to " + action + " inventory reservation right now");
+        }
+    }
+
+    private void writeThroughAvailableQuantities(InventoryReservationResponse response) {
+        if (response.items() == null) {
+            return;
+        }
+        for (InventoryReservationResponse.Item item : response.items()) {
+            if (item.productId() != null && item.availableQuantity() != null) {
+                productCache.updateAvailableQuantity(item.productId(), item.availableQuantity());
+            }
         }
     }
 }
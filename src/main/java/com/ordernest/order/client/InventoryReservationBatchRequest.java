@@ -0,0 +1,7 @@
+package com.ordernest.order.client;
+
+import java.util.List;
+import java.util.UUID;
+
+public record InventoryReservationBatchRequest(List<UUID> orderIds) {
+}
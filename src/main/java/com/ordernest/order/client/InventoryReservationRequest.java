@@ -0,0 +1,15 @@
+package com.ordernest.order.client;
+
+import java.util.List;
+import java.util.UUID;
+
+public record InventoryReservationRequest(
+        UUID orderId,
+        List<Item> items
+) {
+    public record Item(
+            UUID productId,
+            Integer quantity
+    ) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.ordernest.order.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.List;
+import java.util.UUID;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record InventoryReservationResponse(
+        UUID orderId,
+        String status,
+        String reason,
+        List<Item> items
+) {
+    public static final String STATUS_RESERVED = "RESERVED";
+
+    public boolean isReserved() {
+        return STATUS_RESERVED.equalsIgnoreCase(status);
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Item(
+            UUID productId,
+            Integer quantity,
+            Integer availableQuantity
+    ) {
+    }
+}
@@ -1,4 +0,0 @@
-package com.ordernest.order.client;
-
-public record InventoryStockUpdateRequest(Integer availableQuantity) {
-}
@@ -0,0 +1,12 @@
+package com.ordernest.order.client;
+
+public record ProductCacheStats(
+        int size,
+        long hits,
+        long staleHits,
+        long misses,
+        long coalescedLoads,
+        long refreshFailures,
+        long evictions
+) {
+}
@@ -0,0 +1,202 @@
+package com.ordernest.order.client;
+
+import com.ordernest.order.cache.LruCache;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+class ProductCatalogCache {
+
+    private final LruCache<UUID, Entry> entries;
+    private final Map<UUID, CompletableFuture<InventoryProductResponse>> inFlight = new ConcurrentHashMap<>();
+    private final long staticTtlNanos;
+    private final long quantityTtlNanos;
+    private final long staleWhileRevalidateNanos;
+    private final Executor refreshExecutor;
+    private final Function<UUID, InventoryProductResponse> refreshLoader;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalescedLoads = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+
+    ProductCatalogCache(
+            Duration staticTtl,
+            Duration quantityTtl,
+            Duration staleWhileRevalidate,
+            int maxSize,
+            Executor refreshExecutor,
+            Function<UUID, InventoryProductResponse> refreshLoader
+    ) {
+        this.staticTtlNanos = staticTtl.toNanos();
+        this.quantityTtlNanos = quantityTtl.toNanos();
+        this.staleWhileRevalidateNanos = staleWhileRevalidate.toNanos();
+        this.entries = new LruCache<>(maxSize);
+        this.refreshExecutor = refreshExecutor;
+        this.refreshLoader = refreshLoader;
+    }
+
+    InventoryProductResponse getDetails(UUID productId, Function<UUID, InventoryProductResponse> loader) {
+        return get(productId, loader);
+    }
+
+    // Refreshes only the quantity; name, price and currency keep aging towards their own TTL.
+    void updateAvailableQuantity(UUID productId, int availableQuantity) {
+        entries.computeIfPresent(productId, (id, entry) -> new Entry(
+                withQuantity(entry.product(), availableQuantity),
+                entry.staticLoadedAtNanos(),
+                System.nanoTime()
+        ));
+    }
+
+    void invalidate(UUID productId) {
+        entries.remove(productId);
+    }
+
+    ProductCacheStats stats() {
+        return new ProductCacheStats(
+                entries.size(),
+                hits.sum(),
+                staleHits.sum(),
+                misses.sum(),
+                coalescedLoads.sum(),
+                refreshFailures.sum(),
+                entries.evictions()
+        );
+    }
+
+    Map<UUID, InventoryProductResponse> getAllDetails(
+            Collection<UUID> productIds,
+            Function<List<UUID>, List<InventoryProductResponse>> batchLoader
+    ) {
+        Map<UUID, InventoryProductResponse> products = new LinkedHashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        for (UUID productId : productIds) {
+            InventoryProductResponse cached = lookup(productId);
+            if (cached != null) {
+                products.put(productId, cached);
+            } else {
+                misses.increment();
+                missing.add(productId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            for (InventoryProductResponse product : batchLoader.apply(missing)) {
+                if (product != null && product.id() != null) {
+                    put(product.id(), product);
+                    products.put(product.id(), product);
+                }
+            }
+        }
+        return products;
+    }
+
+    private InventoryProductResponse get(UUID productId, Function<UUID, InventoryProductResponse> loader) {
+        InventoryProductResponse cached = lookup(productId);
+        if (cached != null) {
+            return cached;
+        }
+
+        misses.increment();
+        return load(productId, loader);
+    }
+
+    private InventoryProductResponse lookup(UUID productId) {
+        Entry entry = entries.get(productId);
+        if (entry == null) {
+            return null;
+        }
+
+        long now = System.nanoTime();
+        long age = now - entry.staticLoadedAtNanos();
+        if (age <= staticTtlNanos) {
+            hits.increment();
+            return entry.productAt(now, quantityTtlNanos);
+        }
+        if (age <= staticTtlNanos + staleWhileRevalidateNanos) {
+            staleHits.increment();
+            refreshAsync(productId);
+            return entry.productAt(now, quantityTtlNanos);
+        }
+        return null;
+    }
+
+    // Refreshes run on the service's own credential, never on whichever caller happened to trigger them.
+    private void refreshAsync(UUID productId) {
+        if (inFlight.containsKey(productId)) {
+            return;
+        }
+        CompletableFuture.runAsync(() -> load(productId, refreshLoader), refreshExecutor)
+                .exceptionally(ex -> {
+                    refreshFailures.increment();
+                    log.debug("Background refresh failed for productId={}", productId, ex);
+                    return null;
+                });
+    }
+
+    private InventoryProductResponse load(UUID productId, Function<UUID, InventoryProductResponse> loader) {
+        CompletableFuture<InventoryProductResponse> pending = new CompletableFuture<>();
+        CompletableFuture<InventoryProductResponse> existing = inFlight.putIfAbsent(productId, pending);
+        if (existing != null) {
+            coalescedLoads.increment();
+            return join(existing);
+        }
+
+        try {
+            InventoryProductResponse product = loader.apply(productId);
+            put(productId, product);
+            pending.complete(product);
+            return product;
+        } catch (RuntimeException ex) {
+            pending.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(productId, pending);
+        }
+    }
+
+    private void put(UUID productId, InventoryProductResponse product) {
+        long now = System.nanoTime();
+        entries.put(productId, new Entry(product, now, now));
+    }
+
+    private static InventoryProductResponse withQuantity(InventoryProductResponse product, Integer availableQuantity) {
+        return new InventoryProductResponse(product.id(), product.name(), product.price(), availableQuantity, product.currency());
+    }
+
+    private InventoryProductResponse join(CompletableFuture<InventoryProductResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private record Entry(InventoryProductResponse product, long staticLoadedAtNanos, long quantityLoadedAtNanos) {
+
+        // A quantity older than its own TTL is not reported; callers must not treat it as current stock.
+        InventoryProductResponse productAt(long now, long quantityTtlNanos) {
+            if (product.availableQuantity() == null || now - quantityLoadedAtNanos <= quantityTtlNanos) {
+                return product;
+            }
+            return withQuantity(product, null);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.ordernest.order.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ordernest.order.messaging.codec.BinaryEventCodec;
+import com.ordernest.order.messaging.codec.EventCodec;
+import com.ordernest.order.messaging.codec.JsonEventCodec;
+import java.util.Locale;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class EventCodecConfig {
+
+    @Bean
+    public EventCodec eventCodec(
+            @Value("${app.kafka.event-format:json}") String eventFormat,
+            ObjectMapper objectMapper
+    ) {
+        return switch (eventFormat.trim().toLowerCase(Locale.ROOT)) {
+            case "json" -> new JsonEventCodec(objectMapper);
+            case "binary" -> new BinaryEventCodec();
+            default -> throw new IllegalStateException(
+                    "Unsupported app.kafka.event-format '" + eventFormat + "', expected json or binary");
+        };
+    }
+}
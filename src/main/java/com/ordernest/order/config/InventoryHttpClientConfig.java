@@ -0,0 +1,70 @@
+package com.ordernest.order.config;
+
+import java.time.Duration;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+@Configuration
+public class InventoryHttpClientConfig {
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager inventoryConnectionManager(
+            @Value("${app.inventory.http.max-connections:200}") int maxConnections,
+            @Value("${app.inventory.http.max-connections-per-route:100}") int maxConnectionsPerRoute,
+            @Value("${app.inventory.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${app.inventory.http.read-timeout:5s}") Duration readTimeout,
+            @Value("${app.inventory.http.connection-ttl:5m}") Duration connectionTtl,
+            @Value("${app.inventory.http.validate-after-inactivity:2s}") Duration validateAfterInactivity
+    ) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                        .setTimeToLive(TimeValue.ofMilliseconds(connectionTtl.toMillis()))
+                        .setValidateAfterInactivity(TimeValue.ofMilliseconds(validateAfterInactivity.toMillis()))
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient inventoryHttpClient(
+            PoolingHttpClientConnectionManager inventoryConnectionManager,
+            @Value("${app.inventory.http.read-timeout:5s}") Duration readTimeout,
+            @Value("${app.inventory.http.connection-request-timeout:1s}") Duration connectionRequestTimeout,
+            @Value("${app.inventory.http.idle-timeout:30s}") Duration idleTimeout
+    ) {
+        return HttpClients.custom()
+                .setConnectionManager(inventoryConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeout.toMillis()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleTimeout.toMillis()))
+                .build();
+    }
+
+    @Bean
+    public RestClient inventoryRestClient(
+            CloseableHttpClient inventoryHttpClient,
+            @Value("${app.inventory.base-url}") String inventoryBaseUrl
+    ) {
+        return RestClient.builder()
+                .baseUrl(inventoryBaseUrl)
+                .requestFactory(new HttpComponentsClientHttpRequestFactory(inventoryHttpClient))
+                .build();
+    }
+}
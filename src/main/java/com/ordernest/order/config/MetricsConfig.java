@@ -0,0 +1,134 @@
+package com.ordernest.order.config;
+
+import com.ordernest.order.client.InventoryCircuitBreaker;
+import com.ordernest.order.client.InventoryClient;
+import com.ordernest.order.messaging.OutboxRelay;
+import com.ordernest.order.service.OptimisticLockRetry;
+import com.ordernest.order.service.OrderResponseCache;
+import com.ordernest.order.service.ReservationCompleter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder inventoryConnectionPoolMetrics(PoolingHttpClientConnectionManager inventoryConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(inventoryConnectionManager, "inventory");
+    }
+
+    @Bean
+    public MeterBinder productCacheMetrics(InventoryClient inventoryClient) {
+        return registry -> {
+            Gauge.builder("ordernest.inventory.product.cache.size", inventoryClient,
+                            client -> client.getProductCacheStats().size())
+                    .register(registry);
+            FunctionCounter.builder("ordernest.inventory.product.cache.requests", inventoryClient,
+                            client -> client.getProductCacheStats().hits())
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("ordernest.inventory.product.cache.requests", inventoryClient,
+                            client -> client.getProductCacheStats().staleHits())
+                    .tag("result", "stale_hit")
+                    .register(registry);
+            FunctionCounter.builder("ordernest.inventory.product.cache.requests", inventoryClient,
+                            client -> client.getProductCacheStats().misses())
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("ordernest.inventory.product.cache.coalesced.loads", inventoryClient,
+                            client -> client.getProductCacheStats().coalescedLoads())
+                    .register(registry);
+            FunctionCounter.builder("ordernest.inventory.product.cache.refresh.failures", inventoryClient,
+                            client -> client.getProductCacheStats().refreshFailures())
+                    .register(registry);
+            FunctionCounter.builder("ordernest.inventory.product.cache.evictions", inventoryClient,
+                            client -> client.getProductCacheStats().evictions())
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder inventoryCircuitBreakerMetrics(InventoryCircuitBreaker circuitBreaker) {
+        return registry -> {
+            Gauge.builder("ordernest.inventory.circuit.open", circuitBreaker,
+                            breaker -> "CLOSED".equals(breaker.stats().state()) ? 0 : 1)
+                    .description("1 while the inventory circuit breaker is open or half-open")
+                    .register(registry);
+            Gauge.builder("ordernest.inventory.circuit.failure.rate", circuitBreaker,
+                            breaker -> breaker.stats().failureRate())
+                    .baseUnit("percent")
+                    .register(registry);
+            Gauge.builder("ordernest.inventory.circuit.slow.call.rate", circuitBreaker,
+                            breaker -> breaker.stats().slowCallRate())
+                    .baseUnit("percent")
+                    .register(registry);
+            FunctionCounter.builder("ordernest.inventory.circuit.rejections", circuitBreaker,
+                            breaker -> breaker.stats().notPermittedCalls())
+                    .tag("reason", "open")
+                    .register(registry);
+            FunctionCounter.builder("ordernest.inventory.circuit.rejections", circuitBreaker,
+                            breaker -> breaker.stats().bulkheadRejections())
+                    .tag("reason", "bulkhead")
+                    .register(registry);
+            Gauge.builder("ordernest.inventory.bulkhead.available", circuitBreaker,
+                            breaker -> breaker.stats().availableConcurrentCalls())
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder orderCacheMetrics(OrderResponseCache orderResponseCache) {
+        return registry -> {
+            Gauge.builder("ordernest.orders.cache.size", orderResponseCache, cache -> cache.stats().size())
+                    .register(registry);
+            Gauge.builder("ordernest.orders.cache.hit.ratio", orderResponseCache, cache -> cache.stats().hitRatio())
+                    .register(registry);
+            FunctionCounter.builder("ordernest.orders.cache.requests", orderResponseCache, cache -> cache.stats().hits())
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("ordernest.orders.cache.requests", orderResponseCache, cache -> cache.stats().misses())
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("ordernest.orders.cache.evictions", orderResponseCache, cache -> cache.stats().evictions())
+                    .register(registry);
+            FunctionCounter.builder("ordernest.orders.cache.invalidations", orderResponseCache,
+                            cache -> cache.stats().invalidations())
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder optimisticLockMetrics(OptimisticLockRetry optimisticLockRetry) {
+        return registry -> {
+            FunctionCounter.builder("ordernest.orders.optimistic.lock.conflicts", optimisticLockRetry,
+                            retry -> retry.stats().conflicts())
+                    .register(registry);
+            FunctionCounter.builder("ordernest.orders.optimistic.lock.recovered", optimisticLockRetry,
+                            retry -> retry.stats().recovered())
+                    .register(registry);
+            FunctionCounter.builder("ordernest.orders.optimistic.lock.exhausted", optimisticLockRetry,
+                            retry -> retry.stats().exhausted())
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder outboxMetrics(OutboxRelay outboxRelay) {
+        return registry -> Gauge.builder("ordernest.outbox.pending", outboxRelay, OutboxRelay::pendingEvents)
+                .description("Events written to the outbox but not yet acknowledged by Kafka")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder reservationTaskMetrics(ReservationCompleter reservationCompleter) {
+        return registry -> Gauge.builder("ordernest.inventory.reservation.tasks.pending", reservationCompleter,
+                        ReservationCompleter::pendingTasks)
+                .description("Inventory commit/release calls not yet acknowledged by inventory")
+                .register(registry);
+    }
+}
@@ -1,8 +1,13 @@
 package com.ordernest.order.controller;
 
+import com.ordernest.order.dto.BulkCreateOrderRequest;
+import com.ordernest.order.dto.BulkCreateOrderResponse;
 import com.ordernest.order.dto.CreateOrderRequest;
 import com.ordernest.order.dto.CreateOrderResponse;
+import com.ordernest.order.dto.OrderPageResponse;
 import com.ordernest.order.dto.OrderResponse;
+import com.ordernest.order.dto.OrderTimelineEntryResponse;
+import com.ordernest.order.security.AuthenticatedUser;
 import com.ordernest.order.service.OrderService;
 import jakarta.validation.Valid;
 import java.util.List;
@@ -10,11 +15,13 @@ import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestHeader;
 
@@ -28,31 +35,52 @@ public class OrderController {
     @PostMapping
     public ResponseEntity<CreateOrderResponse> createOrder(
             @Valid @RequestBody CreateOrderRequest request,
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(orderService.createOrder(request, user, authorization, idempotencyKey));
+    }
+
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkCreateOrderResponse> createOrders(
+            @Valid @RequestBody BulkCreateOrderRequest request,
+            @AuthenticationPrincipal AuthenticatedUser user,
             @RequestHeader(value = "Authorization", required = false) String authorization
     ) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(orderService.createOrder(request, authorization));
+        BulkCreateOrderResponse response = orderService.createOrders(request, user, authorization);
+        HttpStatus status = response.failed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
     }
 
     @GetMapping("/{orderId}")
-    public ResponseEntity<OrderResponse> getOrderById(
+    public ResponseEntity<OrderResponse> getOrderById(@PathVariable UUID orderId) {
+        return ResponseEntity.ok(orderService.getOrderById(orderId));
+    }
+
+    @GetMapping("/{orderId}/timeline")
+    public ResponseEntity<List<OrderTimelineEntryResponse>> getOrderTimeline(
             @PathVariable UUID orderId,
-            @RequestHeader(value = "Authorization", required = false) String authorization
+            @AuthenticationPrincipal AuthenticatedUser user
     ) {
-        return ResponseEntity.ok(orderService.getOrderById(orderId));
+        return ResponseEntity.ok(orderService.getOrderTimeline(orderId, user));
     }
 
     @GetMapping("/me")
-    public ResponseEntity<List<OrderResponse>> getMyOrders(
-            @RequestHeader(value = "Authorization", required = false) String authorization
+    public ResponseEntity<OrderPageResponse> getMyOrders(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit
     ) {
-        return ResponseEntity.ok(orderService.getMyOrders(authorization));
+        return ResponseEntity.ok(orderService.getMyOrders(user, cursor, limit));
     }
 
     @PostMapping("/{orderId}/cancel")
     public ResponseEntity<OrderResponse> cancelOrder(
             @PathVariable UUID orderId,
-            @RequestHeader(value = "Authorization", required = false) String authorization
+            @AuthenticationPrincipal AuthenticatedUser user
     ) {
-        return ResponseEntity.ok(orderService.cancelOrderByUser(orderId, authorization));
+        return ResponseEntity.ok(orderService.cancelOrderByUser(orderId, user));
     }
 }
@@ -2,13 +2,14 @@ package com.ordernest.order.controller;
 
 import com.ordernest.order.dto.OrderResponse;
 import com.ordernest.order.dto.UpdateShipmentStatusRequest;
+import com.ordernest.order.security.AuthenticatedUser;
 import com.ordernest.order.service.OrderService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -22,8 +23,8 @@ public class ShipmentController {
     @PostMapping("/status")
     public ResponseEntity<OrderResponse> updateShipmentStatus(
             @Valid @RequestBody UpdateShipmentStatusRequest request,
-            @RequestHeader(value = "Authorization", required = false) String authorization
+            @AuthenticationPrincipal AuthenticatedUser user
     ) {
-        return ResponseEntity.ok(orderService.updateShipmentStatusByAdmin(request, authorization));
+        return ResponseEntity.ok(orderService.updateShipmentStatusByAdmin(request, user));
     }
 }
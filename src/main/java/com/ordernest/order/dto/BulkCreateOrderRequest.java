@@ -0,0 +1,14 @@
+package com.ordernest.order.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record BulkCreateOrderRequest(
+        @NotEmpty(message = "orders must not be empty")
+        @Size(max = 500, message = "A bulk request can contain at most 500 orders")
+        List<@Valid @NotNull CreateOrderRequest> orders
+) {
+}
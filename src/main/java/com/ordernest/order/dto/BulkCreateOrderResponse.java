@@ -0,0 +1,35 @@
+package com.ordernest.order.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkCreateOrderResponse(
+        int created,
+        int failed,
+        List<Result> results
+) {
+    public static BulkCreateOrderResponse of(List<Result> results) {
+        int created = (int) results.stream().filter(result -> result.status() == Status.CREATED).count();
+        return new BulkCreateOrderResponse(created, results.size() - created, results);
+    }
+
+    public record Result(
+            int index,
+            UUID orderId,
+            Status status,
+            String error
+    ) {
+        public static Result created(int index, UUID orderId) {
+            return new Result(index, orderId, Status.CREATED, null);
+        }
+
+        public static Result failed(int index, String error) {
+            return new Result(index, null, Status.FAILED, error);
+        }
+    }
+
+    public enum Status {
+        CREATED,
+        FAILED
+    }
+}
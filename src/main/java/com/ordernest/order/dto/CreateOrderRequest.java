@@ -3,11 +3,21 @@ package com.ordernest.order.dto;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
 import java.util.UUID;
 
 public record CreateOrderRequest(
-        @Valid @NotNull ItemRequest item
+        @Valid ItemRequest item,
+        @Valid @Size(max = 50, message = "An order can contain at most 50 items") List<@NotNull ItemRequest> items
 ) {
+    public List<ItemRequest> lineItems() {
+        if (items != null && !items.isEmpty()) {
+            return items;
+        }
+        return item == null ? List.of() : List.of(item);
+    }
+
     public record ItemRequest(
             @NotNull UUID productId,
             @NotNull @Min(1) Integer quantity
@@ -0,0 +1,9 @@
+package com.ordernest.order.dto;
+
+import java.util.List;
+
+public record OrderPageResponse(
+        List<OrderResponse> orders,
+        String nextCursor
+) {
+}
@@ -3,12 +3,17 @@ package com.ordernest.order.dto;
 import com.ordernest.order.entity.OrderStatus;
 import com.ordernest.order.entity.PaymentStatus;
 import com.ordernest.order.entity.ShipmentStatus;
+import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 public record OrderResponse(
         UUID orderId,
         OrderItemResponse item,
+        List<OrderItemResponse> items,
+        BigDecimal totalAmount,
+        String currency,
         OrderStatus status,
         PaymentStatus paymentStatus,
         String razorpayPaymentId,
@@ -0,0 +1,16 @@
+package com.ordernest.order.dto;
+
+import com.ordernest.order.entity.OrderStatus;
+import com.ordernest.order.entity.PaymentStatus;
+import com.ordernest.order.entity.ShipmentStatus;
+import java.time.Instant;
+
+public record OrderTimelineEntryResponse(
+        OrderStatus previousStatus,
+        OrderStatus status,
+        PaymentStatus paymentStatus,
+        ShipmentStatus shipmentStatus,
+        String reason,
+        Instant at
+) {
+}
@@ -1,29 +1,40 @@
 package com.ordernest.order.entity;
 
+import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Table(name = "orders")
 @Getter
 @Setter
 @NoArgsConstructor
-public class CustomerOrder {
+public class CustomerOrder implements Persistable<UUID> {
 
     @Id
     private UUID id;
@@ -31,6 +42,7 @@ public class CustomerOrder {
     @Column(nullable = false)
     private UUID userId;
 
+    // productId, productName and quantity mirror the first item; orders placed before order_items have no item rows.
     @Column(nullable = false)
     private UUID productId;
 
@@ -66,6 +78,25 @@ public class CustomerOrder {
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("lineNumber ASC")
+    private List<OrderItem> items = new ArrayList<>();
+
+    // Ids are assigned before insert so stock can be reserved against them; this keeps save() a plain persist.
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
     @PrePersist
     void prePersist() {
         if (id == null) {
@@ -84,4 +115,16 @@ public class CustomerOrder {
             shipmentStatus = ShipmentStatus.NOT_CREATED;
         }
     }
+
+    public void addItem(OrderItem item) {
+        item.setOrder(this);
+        item.setLineNumber(items.size() + 1);
+        items.add(item);
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        newEntity = false;
+    }
 }
@@ -5,5 +5,15 @@ public enum ShipmentStatus {
     CREATED,
     SHIPPED,
     DELIVERED,
-    RETURNED
+    RETURNED;
+
+    public boolean canTransitionTo(ShipmentStatus next) {
+        return switch (this) {
+            case NOT_CREATED -> next == CREATED;
+            case CREATED -> next == SHIPPED;
+            case SHIPPED -> next == DELIVERED;
+            case DELIVERED -> next == RETURNED;
+            case RETURNED -> false;
+        };
+    }
 }
@@ -5,6 +5,7 @@ import com.ordernest.order.entity.PaymentStatus;
 import com.ordernest.order.entity.ShipmentStatus;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 public record OrderStatusEvent(
@@ -13,6 +14,7 @@ public record OrderStatusEvent(
         UUID productId,
         String productName,
         Integer quantity,
+        List<Item> items,
         BigDecimal totalAmount,
         String currency,
         OrderStatus previousStatus,
@@ -22,4 +24,11 @@ public record OrderStatusEvent(
         String reason,
         Instant timestamp
 ) {
+    public record Item(
+            UUID productId,
+            String productName,
+            Integer quantity,
+            BigDecimal lineAmount
+    ) {
+    }
 }
@@ -0,0 +1,168 @@
+package com.ordernest.order.messaging;
+
+import com.ordernest.order.service.OrderResponseCache;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+
+// Every pod needs every change, so each instance assigns itself all partitions with no consumer group.
+// Nothing is committed and no per-pod groups are left behind; a restarted pod starts from the latest offset.
+@Slf4j
+@Component
+public class OrderCacheInvalidationListener implements SmartLifecycle {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+    private static final Duration RESTART_DELAY = Duration.ofSeconds(5);
+
+    private final ConsumerFactory<?, ?> consumerFactory;
+    private final OrderResponseCache orderResponseCache;
+    private final String topic;
+    private final Duration partitionRefreshInterval;
+
+    private volatile boolean running;
+    private volatile Consumer<String, byte[]> consumer;
+    private Thread worker;
+
+    public OrderCacheInvalidationListener(
+            ConsumerFactory<?, ?> consumerFactory,
+            OrderResponseCache orderResponseCache,
+            @Value("${app.kafka.topic.order-cache-invalidations}") String topic,
+            @Value("${app.orders.cache.invalidation-partition-refresh:1m}") Duration partitionRefreshInterval
+    ) {
+        this.consumerFactory = consumerFactory;
+        this.orderResponseCache = orderResponseCache;
+        this.topic = topic;
+        this.partitionRefreshInterval = partitionRefreshInterval;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "order-cache-invalidation");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Consumer<String, byte[]> current = consumer;
+        if (current != null) {
+            current.wakeup();
+        }
+        try {
+            worker.join(RESTART_DELAY.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            try (Consumer<String, byte[]> kafkaConsumer = createConsumer()) {
+                consumer = kafkaConsumer;
+                consume(kafkaConsumer);
+            } catch (WakeupException ex) {
+                // stop() was called.
+            } catch (RuntimeException ex) {
+                log.error("Order cache invalidation consumer failed, restarting in {}", RESTART_DELAY, ex);
+                sleep(RESTART_DELAY);
+            } finally {
+                consumer = null;
+            }
+        }
+    }
+
+    private void consume(Consumer<String, byte[]> kafkaConsumer) {
+        long nextRefreshNanos = System.nanoTime();
+        while (running) {
+            if (System.nanoTime() - nextRefreshNanos >= 0) {
+                assignPartitions(kafkaConsumer);
+                nextRefreshNanos = System.nanoTime() + partitionRefreshInterval.toNanos();
+            }
+            for (ConsumerRecord<String, byte[]> record : kafkaConsumer.poll(POLL_TIMEOUT)) {
+                invalidate(record.key());
+            }
+        }
+    }
+
+    // Existing partitions start at the end; partitions added later are read from the beginning so nothing is missed.
+    private void assignPartitions(Consumer<String, byte[]> kafkaConsumer) {
+        List<PartitionInfo> partitionInfos = kafkaConsumer.partitionsFor(topic);
+        if (partitionInfos == null || partitionInfos.isEmpty()) {
+            return;
+        }
+        Set<TopicPartition> assigned = kafkaConsumer.assignment();
+        Set<TopicPartition> added = new HashSet<>();
+        for (PartitionInfo info : partitionInfos) {
+            TopicPartition partition = new TopicPartition(info.topic(), info.partition());
+            if (!assigned.contains(partition)) {
+                added.add(partition);
+            }
+        }
+        if (added.isEmpty()) {
+            return;
+        }
+
+        Set<TopicPartition> all = new HashSet<>(assigned);
+        all.addAll(added);
+        kafkaConsumer.assign(all);
+        if (assigned.isEmpty()) {
+            kafkaConsumer.seekToEnd(added);
+        } else {
+            kafkaConsumer.seekToBeginning(added);
+        }
+    }
+
+    private void invalidate(String key) {
+        if (key == null) {
+            return;
+        }
+        try {
+            orderResponseCache.invalidate(UUID.fromString(key));
+        } catch (IllegalArgumentException ex) {
+            log.debug("Ignoring cache invalidation with non-UUID key: {}", key);
+        }
+    }
+
+    private Consumer<String, byte[]> createConsumer() {
+        Map<String, Object> config = new HashMap<>(consumerFactory.getConfigurationProperties());
+        config.remove(ConsumerConfig.GROUP_ID_CONFIG);
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        return new KafkaConsumer<>(config);
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
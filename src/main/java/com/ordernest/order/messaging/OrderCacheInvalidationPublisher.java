@@ -0,0 +1,29 @@
+package com.ordernest.order.messaging;
+
+import com.ordernest.order.entity.OutboxEvent;
+import com.ordernest.order.repository.OutboxEventRepository;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// Tells every pod to drop its cached copy of an order; only the record key (the orderId) is meaningful.
+@Component
+@RequiredArgsConstructor
+public class OrderCacheInvalidationPublisher {
+
+    private static final String CONTENT_TYPE = "application/octet-stream";
+    private static final byte[] EMPTY_PAYLOAD = new byte[0];
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    @Value("${app.kafka.topic.order-cache-invalidations}")
+    private String orderCacheInvalidationsTopic;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(UUID orderId) {
+        outboxEventRepository.save(OutboxEvent.of(orderCacheInvalidationsTopic, orderId.toString(), CONTENT_TYPE, EMPTY_PAYLOAD));
+    }
+}
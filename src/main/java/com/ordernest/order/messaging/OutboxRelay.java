@@ -0,0 +1,226 @@
+package com.ordernest.order.messaging;
+
+import com.ordernest.order.entity.OutboxEvent;
+import com.ordernest.order.messaging.codec.EventCodec;
+import com.ordernest.order.repository.OutboxEventRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    // Arbitrary constant shared by every pod so only one of them drains the outbox at a time.
+    private static final long RELAY_LOCK_KEY = 0x6F72646572L;
+    private static final Duration LEASE_MARGIN = Duration.ofSeconds(5);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration sendTimeout;
+    private final Duration maxBackoff;
+    private final Duration pendingRefresh;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong pendingEvents = new AtomicLong();
+    private volatile long pendingCountedAtNanos = System.nanoTime();
+
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            KafkaTemplate<String, byte[]> kafkaTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.outbox.relay.batch-size:500}") int batchSize,
+            @Value("${app.outbox.relay.send-timeout:30s}") Duration sendTimeout,
+            @Value("${app.outbox.relay.max-backoff:5m}") Duration maxBackoff,
+            @Value("${app.outbox.relay.pending-refresh:15s}") Duration pendingRefresh,
+            MeterRegistry meterRegistry
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+        this.maxBackoff = maxBackoff;
+        this.pendingRefresh = pendingRefresh;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay.interval-ms:200}")
+    public void drain() {
+        int relayed;
+        do {
+            relayed = relayBatch();
+        } while (relayed >= batchSize);
+        refreshPendingEvents();
+    }
+
+    // Last counted outbox size, so metric scrapes never query the table themselves.
+    public long pendingEvents() {
+        return pendingEvents.get();
+    }
+
+    // Drain runs every few hundred milliseconds; counting the outbox that often would cost more than the relay itself.
+    private void refreshPendingEvents() {
+        long now = System.nanoTime();
+        if (now - pendingCountedAtNanos < pendingRefresh.toNanos()) {
+            return;
+        }
+        pendingCountedAtNanos = now;
+        pendingEvents.set(outboxEventRepository.count());
+    }
+
+    // Claiming, sending and settling are separate steps so no transaction or lock is held while waiting for acks.
+    private int relayBatch() {
+        Instant now = Instant.now();
+        List<OutboxEvent> batch = transactionTemplate.execute(status -> claimBatch(now));
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, CompletableFuture<SendResult<String, byte[]>>> sends = send(batch);
+
+        List<Long> deliveredIds = new ArrayList<>(batch.size());
+        List<Long> unsentIds = new ArrayList<>();
+        Map<OutboxEvent, String> failures = new LinkedHashMap<>();
+        for (OutboxEvent event : batch) {
+            CompletableFuture<SendResult<String, byte[]>> send = sends.get(event.getId());
+            if (send == null) {
+                unsentIds.add(event.getId());
+            } else if (send.isDone() && !send.isCompletedExceptionally()) {
+                deliveredIds.add(event.getId());
+            } else {
+                failures.put(event, describeFailure(send));
+            }
+        }
+
+        Instant settledAt = Instant.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxEventRepository.deleteAllByIdInBatch(deliveredIds);
+            failures.forEach((event, error) -> scheduleRetry(event, settledAt, error));
+            // Events held back behind a failed one stay queued; the failed event's backoff keeps them out of later batches.
+            if (!unsentIds.isEmpty()) {
+                outboxEventRepository.rescheduleAll(unsentIds, settledAt);
+            }
+        });
+        if (!failures.isEmpty()) {
+            log.warn("Outbox relay failed to publish {} of {} events ({} held back) for orderIds={}",
+                    failures.size(), batch.size(), unsentIds.size(),
+                    failures.keySet().stream().map(OutboxEvent::getAggregateId).collect(Collectors.toSet()));
+        }
+        return batch.size();
+    }
+
+    // The advisory lock only serialises claiming; the lease keeps other pods off these events while they are in flight.
+    private List<OutboxEvent> claimBatch(Instant now) {
+        if (!outboxEventRepository.tryAcquireRelayLock(RELAY_LOCK_KEY)) {
+            return List.of();
+        }
+        List<OutboxEvent> batch = outboxEventRepository.findDueBatch(now, batchSize);
+        if (!batch.isEmpty()) {
+            outboxEventRepository.rescheduleAll(batch.stream().map(OutboxEvent::getId).toList(), now.plus(sendTimeout).plus(LEASE_MARGIN));
+        }
+        return batch;
+    }
+
+    // Events of one order are sent one after another, so a failure stops everything queued behind it.
+    private Map<Long, CompletableFuture<SendResult<String, byte[]>>> send(List<OutboxEvent> batch) {
+        Map<String, List<OutboxEvent>> eventsByAggregate = new LinkedHashMap<>();
+        for (OutboxEvent event : batch) {
+            eventsByAggregate.computeIfAbsent(event.getAggregateId(), id -> new ArrayList<>()).add(event);
+        }
+
+        Map<Long, CompletableFuture<SendResult<String, byte[]>>> sends = new ConcurrentHashMap<>();
+        AtomicBoolean abandoned = new AtomicBoolean();
+        List<CompletableFuture<?>> chains = new ArrayList<>(eventsByAggregate.size());
+        for (List<OutboxEvent> events : eventsByAggregate.values()) {
+            CompletableFuture<?> chain = CompletableFuture.completedFuture(null);
+            for (OutboxEvent event : events) {
+                chain = chain.thenCompose(ignored -> {
+                    if (abandoned.get()) {
+                        throw new CancellationException("Outbox batch timed out");
+                    }
+                    CompletableFuture<SendResult<String, byte[]>> send = send(event);
+                    sends.put(event.getId(), send);
+                    return send;
+                });
+            }
+            chains.add(chain);
+        }
+
+        try {
+            CompletableFuture.allOf(chains.toArray(CompletableFuture[]::new))
+                    .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException ex) {
+            // Individual outcomes are inspected by the caller.
+        }
+        abandoned.set(true);
+        return new HashMap<>(sends);
+    }
+
+    private CompletableFuture<SendResult<String, byte[]>> send(OutboxEvent event) {
+        ProducerRecord<String, byte[]> record =
+                new ProducerRecord<>(event.getTopic(), event.getAggregateId(), event.getPayload());
+        record.headers().add(EventCodec.CONTENT_TYPE_HEADER, event.getContentType().getBytes(StandardCharsets.UTF_8));
+        long sentAt = System.nanoTime();
+        return kafkaTemplate.send(record).whenComplete((result, ex) -> recordSend(event, sentAt, ex));
+    }
+
+    private void recordSend(OutboxEvent event, long sentAtNanos, Throwable failure) {
+        meterRegistry.timer("ordernest.outbox.publish", "topic", event.getTopic(), "outcome", failure == null ? "acked" : "failed")
+                .record(System.nanoTime() - sentAtNanos, TimeUnit.NANOSECONDS);
+        if (failure == null) {
+            meterRegistry.timer("ordernest.outbox.delivery.lag", "topic", event.getTopic())
+                    .record(Duration.between(event.getCreatedAt(), Instant.now()));
+        }
+    }
+
+    private void scheduleRetry(OutboxEvent event, Instant now, String error) {
+        int attempts = event.getAttempts() + 1;
+        long backoffMillis = Math.min(maxBackoff.toMillis(), 1000L << Math.min(attempts - 1, 20));
+        outboxEventRepository.recordFailure(
+                event.getId(),
+                attempts,
+                now.plusMillis(backoffMillis),
+                error.length() > 1000 ? error.substring(0, 1000) : error
+        );
+    }
+
+    private String describeFailure(CompletableFuture<SendResult<String, byte[]>> send) {
+        if (!send.isDone()) {
+            return "Timed out waiting for broker acknowledgement";
+        }
+        try {
+            send.join();
+            return "Unknown failure";
+        } catch (RuntimeException ex) {
+            Throwable cause = ex.getCause() == null ? ex : ex.getCause();
+            return String.valueOf(cause.getMessage());
+        }
+    }
+}
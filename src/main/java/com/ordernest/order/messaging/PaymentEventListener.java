@@ -4,31 +4,169 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ordernest.order.event.PaymentEvent;
 import com.ordernest.order.service.OrderService;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.event.ListenerContainerIdleEvent;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class PaymentEventListener {
 
     private final ObjectMapper objectMapper;
     private final OrderService orderService;
+    private final PaymentEventOffsets offsets;
+    private final List<ExecutorService> lanes;
+    private final Semaphore inFlight;
+    private final int maxInFlight;
+    private final MeterRegistry meterRegistry;
+    private final Timer batchTimer;
+    private final Timer eventAgeTimer;
+
+    public PaymentEventListener(
+            ObjectMapper objectMapper,
+            OrderService orderService,
+            PaymentEventOffsets offsets,
+            @Value("${app.kafka.consumer.payment-workers:0}") int workerCount,
+            @Value("${app.kafka.consumer.payment-max-in-flight:5000}") int maxInFlight,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            MeterRegistry meterRegistry
+    ) {
+        this.objectMapper = objectMapper;
+        this.orderService = orderService;
+        this.offsets = offsets;
+        int laneCount = workerCount > 0 ? workerCount : Runtime.getRuntime().availableProcessors();
+        // One single-threaded executor per lane keeps each order's events in order across polls.
+        this.lanes = new ArrayList<>(laneCount);
+        for (int i = 0; i < laneCount; i++) {
+            String prefix = "payment-event-worker-" + i;
+            lanes.add(virtualThreads
+                    ? Executors.newSingleThreadExecutor(Thread.ofVirtual().name(prefix).factory())
+                    : Executors.newSingleThreadExecutor(new CustomizableThreadFactory(prefix + "-")));
+        }
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.inFlight = new Semaphore(this.maxInFlight);
+        this.meterRegistry = meterRegistry;
+        this.batchTimer = meterRegistry.timer("ordernest.payment.events.batch");
+        this.eventAgeTimer = meterRegistry.timer("ordernest.payment.events.age");
+    }
 
     @KafkaListener(
+            id = "payment-events",
             topics = "${app.kafka.topic.payment-events}",
-            groupId = "${app.kafka.consumer.group-id}"
+            groupId = "${app.kafka.consumer.group-id}",
+            batch = "true",
+            containerPostProcessor = "paymentEventOffsets"
     )
-    public void onPaymentEvent(String payload) {
+    public void onPaymentEvents(List<ConsumerRecord<String, String>> records, Consumer<?, ?> consumer) {
+        offsets.commit(consumer);
+
+        List<List<PendingEvent>> laneBatches = new ArrayList<>(lanes.size());
+        for (int i = 0; i < lanes.size(); i++) {
+            laneBatches.add(new ArrayList<>());
+        }
+        for (ConsumerRecord<String, String> record : records) {
+            TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+            offsets.track(partition, record.offset());
+            PaymentEvent paymentEvent;
+            try {
+                paymentEvent = objectMapper.readValue(record.value(), PaymentEvent.class);
+            } catch (JsonProcessingException ex) {
+                log.error("Failed to parse payment event payload: {}", record.value(), ex);
+                countEvents("unparseable", 1);
+                offsets.completed(partition, record.offset());
+                continue;
+            }
+            // Events for one order always land in the same lane; different orders spread across lanes.
+            int lane = paymentEvent.orderId() == null ? 0 : Math.floorMod(paymentEvent.orderId().hashCode(), lanes.size());
+            laneBatches.get(lane).add(new PendingEvent(partition, record.offset(), paymentEvent));
+        }
+
+        for (int i = 0; i < lanes.size(); i++) {
+            List<PendingEvent> batch = laneBatches.get(i);
+            if (batch.isEmpty()) {
+                continue;
+            }
+            // Blocks the poll loop only when lanes fall this far behind, so memory stays bounded.
+            int permits = Math.min(batch.size(), maxInFlight);
+            try {
+                inFlight.acquire(permits);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while dispatching payment events", ex);
+            }
+            lanes.get(i).execute(() -> {
+                try {
+                    batchTimer.record(() -> applyLane(batch.stream().map(PendingEvent::paymentEvent).toList()));
+                } finally {
+                    batch.forEach(event -> offsets.completed(event.partition(), event.offset()));
+                    inFlight.release(permits);
+                }
+            });
+        }
+    }
+
+    @EventListener(condition = "event.listenerId.startsWith('payment-events')")
+    public void onIdle(ListenerContainerIdleEvent event) {
+        offsets.commit(event.getConsumer());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        lanes.forEach(ExecutorService::shutdown);
+    }
+
+    private void applyLane(List<PaymentEvent> paymentEvents) {
         try {
-            PaymentEvent paymentEvent = objectMapper.readValue(payload, PaymentEvent.class);
-            orderService.applyPaymentEvent(paymentEvent);
-        } catch (JsonProcessingException ex) {
-            log.error("Failed to parse payment event payload: {}", payload, ex);
+            orderService.applyPaymentEvents(paymentEvents);
+            countEvents("applied", paymentEvents.size());
+            recordAge(paymentEvents);
         } catch (Exception ex) {
-            log.error("Failed to process payment event payload: {}", payload, ex);
+            // One bad order must not hold back the rest of the lane; retry each event in its own transaction.
+            log.warn("Failed to apply batch of {} payment events, falling back to one at a time", paymentEvents.size(), ex);
+            for (PaymentEvent paymentEvent : paymentEvents) {
+                try {
+                    orderService.applyPaymentEvent(paymentEvent);
+                    countEvents("applied", 1);
+                } catch (Exception eventEx) {
+                    log.error("Failed to process payment event: {}", paymentEvent, eventEx);
+                    countEvents("failed", 1);
+                }
+            }
+            recordAge(paymentEvents);
+        }
+    }
+
+    private record PendingEvent(TopicPartition partition, long offset, PaymentEvent paymentEvent) {
+    }
+
+    private void countEvents(String outcome, int count) {
+        meterRegistry.counter("ordernest.payment.events", "outcome", outcome).increment(count);
+    }
+
+    // Time from the payment service emitting the event to it being applied here, i.e. end-to-end consumer lag.
+    private void recordAge(List<PaymentEvent> paymentEvents) {
+        Instant now = Instant.now();
+        for (PaymentEvent paymentEvent : paymentEvents) {
+            if (paymentEvent.timestamp() != null) {
+                eventAgeTimer.record(Duration.between(paymentEvent.timestamp(), now));
+            }
         }
     }
 }
@@ -0,0 +1,124 @@
+package com.ordernest.order.messaging;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.config.ContainerPostProcessor;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.stereotype.Component;
+
+// Payment lanes finish out of order and keep running across polls, so the container must not commit after each batch.
+// Offsets are committed per partition only up to the lowest record that is still being applied.
+@Slf4j
+@Component("paymentEventOffsets")
+class PaymentEventOffsets implements ContainerPostProcessor<Object, Object, AbstractMessageListenerContainer<Object, Object>>,
+        ConsumerAwareRebalanceListener {
+
+    private final Duration commitInterval;
+    private final Map<TopicPartition, PartitionProgress> partitions = new ConcurrentHashMap<>();
+
+    PaymentEventOffsets(@Value("${app.kafka.consumer.payment-commit-interval:1s}") Duration commitInterval) {
+        this.commitInterval = commitInterval;
+    }
+
+    @Override
+    public void postProcess(AbstractMessageListenerContainer<Object, Object> container) {
+        ContainerProperties properties = container.getContainerProperties();
+        properties.setAckMode(ContainerProperties.AckMode.MANUAL);
+        // Idle events give the consumer thread a chance to commit finished lanes when no new records arrive.
+        properties.setIdleEventInterval(commitInterval.toMillis());
+        properties.setConsumerRebalanceListener(this);
+    }
+
+    void track(TopicPartition partition, long offset) {
+        partitions.computeIfAbsent(partition, ignored -> new PartitionProgress()).track(offset);
+    }
+
+    void completed(TopicPartition partition, long offset) {
+        PartitionProgress progress = partitions.get(partition);
+        if (progress != null) {
+            progress.completed(offset);
+        }
+    }
+
+    // Must be called on the consumer thread.
+    void commit(Consumer<?, ?> consumer) {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (TopicPartition partition : consumer.assignment()) {
+            PartitionProgress progress = partitions.get(partition);
+            if (progress == null) {
+                continue;
+            }
+            long committable = progress.takeCommittable();
+            if (committable >= 0) {
+                offsets.put(partition, new OffsetAndMetadata(committable));
+            }
+        }
+        if (offsets.isEmpty()) {
+            return;
+        }
+        consumer.commitAsync(offsets, (committed, ex) -> {
+            if (ex != null) {
+                log.warn("Failed to commit payment event offsets {}", committed, ex);
+            }
+        });
+    }
+
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> revoked) {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (TopicPartition partition : revoked) {
+            PartitionProgress progress = partitions.remove(partition);
+            long committable = progress == null ? -1 : progress.takeCommittable();
+            if (committable >= 0) {
+                offsets.put(partition, new OffsetAndMetadata(committable));
+            }
+        }
+        if (!offsets.isEmpty()) {
+            // Records still in flight are redelivered to the new owner; the deduplicator skips the ones that do finish here.
+            consumer.commitSync(offsets);
+        }
+    }
+
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> lost) {
+        lost.forEach(partitions::remove);
+    }
+
+    private static final class PartitionProgress {
+
+        private final NavigableSet<Long> inFlight = new TreeSet<>();
+        private long nextOffset = -1;
+        private long committed = -1;
+
+        synchronized void track(long offset) {
+            inFlight.add(offset);
+            nextOffset = Math.max(nextOffset, offset + 1);
+        }
+
+        synchronized void completed(long offset) {
+            inFlight.remove(offset);
+        }
+
+        // Returns the next offset to commit, or -1 when nothing new has finished.
+        synchronized long takeCommittable() {
+            long committable = inFlight.isEmpty() ? nextOffset : inFlight.first();
+            if (committable <= committed) {
+                return -1;
+            }
+            committed = committable;
+            return committable;
+        }
+    }
+}
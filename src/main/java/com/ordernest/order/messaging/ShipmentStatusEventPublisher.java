@@ -1,44 +1,38 @@
 package com.ordernest.order.messaging;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ordernest.order.entity.OutboxEvent;
 import com.ordernest.order.event.ShipmentStatusEvent;
+import com.ordernest.order.messaging.codec.EventCodec;
+import com.ordernest.order.messaging.codec.EventCodecException;
+import com.ordernest.order.repository.OutboxEventRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ShipmentStatusEventPublisher {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
-    private final ObjectMapper objectMapper;
+    private final OutboxEventRepository outboxEventRepository;
+    private final EventCodec eventCodec;
 
     @Value("${app.kafka.topic.shipment-events}")
     private String shipmentEventsTopic;
 
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publish(ShipmentStatusEvent event) {
-        final String payload;
+        final byte[] payload;
         try {
-            payload = objectMapper.writeValueAsString(event);
-        } catch (JsonProcessingException ex) {
-            log.error("Failed to serialize shipment event for orderId={}", event.orderId(), ex);
+            payload = eventCodec.encode(event);
+        } catch (EventCodecException ex) {
+            log.error("Failed to encode shipment event for orderId={}", event.orderId(), ex);
             return;
         }
 
-        kafkaTemplate.send(shipmentEventsTopic, event.orderId(), payload)
-                .whenComplete((result, ex) -> {
-                    if (ex != null) {
-                        log.error("Failed to publish shipment event for orderId={}", event.orderId(), ex);
-                    } else {
-                        log.info("Shipment event published successfully. topic={}, partition={}, offset={}",
-                                result.getRecordMetadata().topic(),
-                                result.getRecordMetadata().partition(),
-                                result.getRecordMetadata().offset());
-                    }
-                });
+        outboxEventRepository.save(OutboxEvent.of(shipmentEventsTopic, event.orderId(), eventCodec.contentType(), payload));
     }
 }
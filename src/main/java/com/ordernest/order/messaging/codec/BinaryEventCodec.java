@@ -0,0 +1,204 @@
+package com.ordernest.order.messaging.codec;
+
+import com.ordernest.order.entity.OrderStatus;
+import com.ordernest.order.entity.PaymentStatus;
+import com.ordernest.order.entity.ShipmentStatus;
+import com.ordernest.order.event.OrderCancellationEvent;
+import com.ordernest.order.event.OrderCancellationEventType;
+import com.ordernest.order.event.OrderStatusEvent;
+import com.ordernest.order.event.ShipmentStatusEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Layout: schema version, event type, then per record a presence bitmap followed by the non-null fields in
+// declaration order. Enums travel as ordinals, so new constants may only be appended; any other change to a
+// record or enum needs a new SCHEMA_VERSION.
+public class BinaryEventCodec implements EventCodec {
+
+    public static final int SCHEMA_VERSION = 1;
+    public static final String CONTENT_TYPE = "application/vnd.ordernest.event+binary;v=" + SCHEMA_VERSION;
+
+    private static final int ORDER_STATUS_EVENT = 1;
+    private static final int SHIPMENT_STATUS_EVENT = 2;
+    private static final int ORDER_CANCELLATION_EVENT = 3;
+
+    private static final OrderStatus[] ORDER_STATUSES = OrderStatus.values();
+    private static final PaymentStatus[] PAYMENT_STATUSES = PaymentStatus.values();
+    private static final ShipmentStatus[] SHIPMENT_STATUSES = ShipmentStatus.values();
+    private static final OrderCancellationEventType[] CANCELLATION_TYPES = OrderCancellationEventType.values();
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public byte[] encode(Object event) {
+        BinaryEventWriter out = new BinaryEventWriter();
+        out.writeByte(SCHEMA_VERSION);
+        if (event instanceof OrderStatusEvent orderStatusEvent) {
+            out.writeByte(ORDER_STATUS_EVENT);
+            writeOrderStatusEvent(out, orderStatusEvent);
+        } else if (event instanceof ShipmentStatusEvent shipmentStatusEvent) {
+            out.writeByte(SHIPMENT_STATUS_EVENT);
+            writeShipmentStatusEvent(out, shipmentStatusEvent);
+        } else if (event instanceof OrderCancellationEvent cancellationEvent) {
+            out.writeByte(ORDER_CANCELLATION_EVENT);
+            writeOrderCancellationEvent(out, cancellationEvent);
+        } else {
+            throw new EventCodecException("No binary schema for " + event.getClass().getSimpleName());
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public <T> T decode(byte[] payload, Class<T> eventType) {
+        BinaryEventReader in = new BinaryEventReader(payload);
+        int version = in.readByte();
+        if (version != SCHEMA_VERSION) {
+            throw new EventCodecException("Unsupported binary event schema version " + version);
+        }
+
+        int type = in.readByte();
+        Object event = switch (type) {
+            case ORDER_STATUS_EVENT -> readOrderStatusEvent(in);
+            case SHIPMENT_STATUS_EVENT -> readShipmentStatusEvent(in);
+            case ORDER_CANCELLATION_EVENT -> readOrderCancellationEvent(in);
+            default -> throw new EventCodecException("Unknown binary event type " + type);
+        };
+        if (!eventType.isInstance(event)) {
+            throw new EventCodecException("Expected " + eventType.getSimpleName() + " but payload holds "
+                    + event.getClass().getSimpleName());
+        }
+        return eventType.cast(event);
+    }
+
+    private void writeOrderStatusEvent(BinaryEventWriter out, OrderStatusEvent event) {
+        out.writePresence(
+                event.orderId(),
+                event.userId(),
+                event.productId(),
+                event.productName(),
+                event.quantity(),
+                event.items(),
+                event.totalAmount(),
+                event.currency(),
+                event.previousStatus(),
+                event.currentStatus(),
+                event.paymentStatus(),
+                event.shipmentStatus(),
+                event.reason(),
+                event.timestamp()
+        );
+        out.writeId(event.orderId());
+        out.writeUuid(event.userId());
+        out.writeUuid(event.productId());
+        out.writeString(event.productName());
+        out.writeInteger(event.quantity());
+        if (event.items() != null) {
+            out.writeVarInt(event.items().size());
+            for (OrderStatusEvent.Item item : event.items()) {
+                out.writePresence(item.productId(), item.productName(), item.quantity(), item.lineAmount());
+                out.writeUuid(item.productId());
+                out.writeString(item.productName());
+                out.writeInteger(item.quantity());
+                out.writeDecimal(item.lineAmount());
+            }
+        }
+        out.writeDecimal(event.totalAmount());
+        out.writeString(event.currency());
+        out.writeEnum(event.previousStatus());
+        out.writeEnum(event.currentStatus());
+        out.writeEnum(event.paymentStatus());
+        out.writeEnum(event.shipmentStatus());
+        out.writeString(event.reason());
+        out.writeInstant(event.timestamp());
+    }
+
+    private OrderStatusEvent readOrderStatusEvent(BinaryEventReader in) {
+        long presence = in.readVarLong();
+        String orderId = BinaryEventReader.present(presence, 0) ? in.readId() : null;
+        UUID userId = BinaryEventReader.present(presence, 1) ? in.readUuid() : null;
+        UUID productId = BinaryEventReader.present(presence, 2) ? in.readUuid() : null;
+        String productName = BinaryEventReader.present(presence, 3) ? in.readString() : null;
+        Integer quantity = BinaryEventReader.present(presence, 4) ? in.readInteger() : null;
+        List<OrderStatusEvent.Item> items = null;
+        if (BinaryEventReader.present(presence, 5)) {
+            int count = in.readVarInt();
+            items = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                long itemPresence = in.readVarLong();
+                items.add(new OrderStatusEvent.Item(
+                        BinaryEventReader.present(itemPresence, 0) ? in.readUuid() : null,
+                        BinaryEventReader.present(itemPresence, 1) ? in.readString() : null,
+                        BinaryEventReader.present(itemPresence, 2) ? in.readInteger() : null,
+                        BinaryEventReader.present(itemPresence, 3) ? in.readDecimal() : null
+                ));
+            }
+        }
+        return new OrderStatusEvent(
+                orderId,
+                userId,
+                productId,
+                productName,
+                quantity,
+                items,
+                BinaryEventReader.present(presence, 6) ? in.readDecimal() : null,
+                BinaryEventReader.present(presence, 7) ? in.readString() : null,
+                BinaryEventReader.present(presence, 8) ? in.readEnum(ORDER_STATUSES) : null,
+                BinaryEventReader.present(presence, 9) ? in.readEnum(ORDER_STATUSES) : null,
+                BinaryEventReader.present(presence, 10) ? in.readEnum(PAYMENT_STATUSES) : null,
+                BinaryEventReader.present(presence, 11) ? in.readEnum(SHIPMENT_STATUSES) : null,
+                BinaryEventReader.present(presence, 12) ? in.readString() : null,
+                BinaryEventReader.present(presence, 13) ? in.readInstant() : null
+        );
+    }
+
+    private void writeShipmentStatusEvent(BinaryEventWriter out, ShipmentStatusEvent event) {
+        out.writePresence(event.orderId(), event.shipmentStatus(), event.updatedBy(), event.timestamp());
+        out.writeId(event.orderId());
+        out.writeEnum(event.shipmentStatus());
+        out.writeString(event.updatedBy());
+        out.writeInstant(event.timestamp());
+    }
+
+    private ShipmentStatusEvent readShipmentStatusEvent(BinaryEventReader in) {
+        long presence = in.readVarLong();
+        return new ShipmentStatusEvent(
+                BinaryEventReader.present(presence, 0) ? in.readId() : null,
+                BinaryEventReader.present(presence, 1) ? in.readEnum(SHIPMENT_STATUSES) : null,
+                BinaryEventReader.present(presence, 2) ? in.readString() : null,
+                BinaryEventReader.present(presence, 3) ? in.readInstant() : null
+        );
+    }
+
+    private void writeOrderCancellationEvent(BinaryEventWriter out, OrderCancellationEvent event) {
+        out.writePresence(
+                event.productId(),
+                event.quantity(),
+                event.orderId(),
+                event.eventType(),
+                event.reason(),
+                event.timestamp()
+        );
+        out.writeUuid(event.productId());
+        out.writeInteger(event.quantity());
+        out.writeId(event.orderId());
+        out.writeEnum(event.eventType());
+        out.writeString(event.reason());
+        out.writeInstant(event.timestamp());
+    }
+
+    private OrderCancellationEvent readOrderCancellationEvent(BinaryEventReader in) {
+        long presence = in.readVarLong();
+        return new OrderCancellationEvent(
+                BinaryEventReader.present(presence, 0) ? in.readUuid() : null,
+                BinaryEventReader.present(presence, 1) ? in.readInteger() : null,
+                BinaryEventReader.present(presence, 2) ? in.readId() : null,
+                BinaryEventReader.present(presence, 3) ? in.readEnum(CANCELLATION_TYPES) : null,
+                BinaryEventReader.present(presence, 4) ? in.readString() : null,
+                BinaryEventReader.present(presence, 5) ? in.readInstant() : null
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.ordernest.order.messaging.codec;
+
+public interface EventCodec {
+
+    String CONTENT_TYPE_HEADER = "content-type";
+
+    String contentType();
+
+    byte[] encode(Object event);
+
+    <T> T decode(byte[] payload, Class<T> eventType);
+}
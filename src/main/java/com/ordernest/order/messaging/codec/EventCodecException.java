@@ -0,0 +1,11 @@
+package com.ordernest.order.messaging.codec;
+
+public class EventCodecException extends RuntimeException {
+    public EventCodecException(String message) {
+        super(message);
+    }
+
+    public EventCodecException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
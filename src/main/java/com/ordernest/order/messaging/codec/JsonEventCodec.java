@@ -0,0 +1,38 @@
+package com.ordernest.order.messaging.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+
+public class JsonEventCodec implements EventCodec {
+
+    public static final String CONTENT_TYPE = "application/json";
+
+    private final ObjectMapper objectMapper;
+
+    public JsonEventCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public byte[] encode(Object event) {
+        try {
+            return objectMapper.writeValueAsBytes(event);
+        } catch (IOException ex) {
+            throw new EventCodecException("Failed to encode " + event.getClass().getSimpleName() + " as JSON", ex);
+        }
+    }
+
+    @Override
+    public <T> T decode(byte[] payload, Class<T> eventType) {
+        try {
+            return objectMapper.readValue(payload, eventType);
+        } catch (IOException ex) {
+            throw new EventCodecException("Failed to decode " + eventType.getSimpleName() + " from JSON", ex);
+        }
+    }
+}
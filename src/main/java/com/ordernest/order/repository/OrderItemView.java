@@ -0,0 +1,14 @@
+package com.ordernest.order.repository;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record OrderItemView(
+        UUID orderId,
+        UUID productId,
+        String productName,
+        Integer quantity,
+        BigDecimal lineAmount,
+        String currency
+) {
+}
@@ -1,10 +1,59 @@
 package com.ordernest.order.repository;
 
 import com.ordernest.order.entity.CustomerOrder;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface OrderRepository extends JpaRepository<CustomerOrder, UUID> {
-    List<CustomerOrder> findByUserIdOrderByCreatedAtDesc(UUID userId);
+
+    @Query("""
+            select new com.ordernest.order.repository.OrderView(
+                o.id, o.userId, o.productId, o.productName, o.quantity, o.totalAmount, o.currency,
+                o.status, o.paymentStatus, o.razorpayPaymentId, o.shipmentStatus, o.createdAt)
+            from CustomerOrder o
+            where o.id = :id
+            """)
+    Optional<OrderView> findViewById(@Param("id") UUID id);
+
+    @Query("""
+            select new com.ordernest.order.repository.OrderView(
+                o.id, o.userId, o.productId, o.productName, o.quantity, o.totalAmount, o.currency,
+                o.status, o.paymentStatus, o.razorpayPaymentId, o.shipmentStatus, o.createdAt)
+            from CustomerOrder o
+            where o.userId = :userId
+            order by o.createdAt desc, o.id desc
+            """)
+    List<OrderView> findLatestViewsByUserId(@Param("userId") UUID userId, Limit limit);
+
+    @Query("""
+            select new com.ordernest.order.repository.OrderView(
+                o.id, o.userId, o.productId, o.productName, o.quantity, o.totalAmount, o.currency,
+                o.status, o.paymentStatus, o.razorpayPaymentId, o.shipmentStatus, o.createdAt)
+            from CustomerOrder o
+            where o.userId = :userId
+              and (o.createdAt < :createdAt or (o.createdAt = :createdAt and o.id < :id))
+            order by o.createdAt desc, o.id desc
+            """)
+    List<OrderView> findViewsByUserIdBefore(
+            @Param("userId") UUID userId,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit
+    );
+
+    @Query("""
+            select new com.ordernest.order.repository.OrderItemView(
+                i.order.id, i.productId, i.productName, i.quantity, i.lineAmount, i.currency)
+            from OrderItem i
+            where i.order.id in :orderIds
+            order by i.lineNumber asc
+            """)
+    List<OrderItemView> findItemViewsByOrderIds(@Param("orderIds") Collection<UUID> orderIds);
 }
@@ -0,0 +1,24 @@
+package com.ordernest.order.repository;
+
+import com.ordernest.order.entity.OrderStatus;
+import com.ordernest.order.entity.PaymentStatus;
+import com.ordernest.order.entity.ShipmentStatus;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public record OrderView(
+        UUID id,
+        UUID userId,
+        UUID productId,
+        String productName,
+        Integer quantity,
+        BigDecimal totalAmount,
+        String currency,
+        OrderStatus status,
+        PaymentStatus paymentStatus,
+        String razorpayPaymentId,
+        ShipmentStatus shipmentStatus,
+        Instant createdAt
+) {
+}
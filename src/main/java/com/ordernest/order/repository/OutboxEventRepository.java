@@ -0,0 +1,48 @@
+package com.ordernest.order.repository;
+
+import com.ordernest.order.entity.OutboxEvent;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Skips events queued behind an older, still backing-off or in-flight event for the same order so per-order order holds.
+    @Query(value = """
+            select e.* from outbox_events e
+            where e.next_attempt_at <= :now
+              and not exists (
+                  select 1 from outbox_events older
+                  where older.aggregate_id = e.aggregate_id
+                    and older.id < e.id
+                    and older.next_attempt_at > :now
+              )
+            order by e.id
+            limit :limit
+            """, nativeQuery = true)
+    List<OutboxEvent> findDueBatch(@Param("now") Instant now, @Param("limit") int limit);
+
+    @Query(value = "select pg_try_advisory_xact_lock(:lockKey)", nativeQuery = true)
+    boolean tryAcquireRelayLock(@Param("lockKey") long lockKey);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.nextAttemptAt = :nextAttemptAt where e.id in :ids")
+    int rescheduleAll(@Param("ids") Collection<Long> ids, @Param("nextAttemptAt") Instant nextAttemptAt);
+
+    @Modifying
+    @Query("""
+            update OutboxEvent e
+            set e.attempts = :attempts, e.nextAttemptAt = :nextAttemptAt, e.lastError = :lastError
+            where e.id = :id
+            """)
+    int recordFailure(
+            @Param("id") Long id,
+            @Param("attempts") int attempts,
+            @Param("nextAttemptAt") Instant nextAttemptAt,
+            @Param("lastError") String lastError
+    );
+}
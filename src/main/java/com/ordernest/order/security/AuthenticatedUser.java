@@ -0,0 +1,19 @@
+package com.ordernest.order.security;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record AuthenticatedUser(
+        UUID userId,
+        String email,
+        String role,
+        Instant expiresAt
+) {
+
+    public static final String ROLE_USER = "ROLE_USER";
+    public static final String ROLE_ADMIN = "ROLE_ADMIN";
+
+    public boolean isAdmin() {
+        return ROLE_ADMIN.equals(role);
+    }
+}
@@ -1,11 +1,24 @@
 package com.ordernest.order.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -13,12 +26,50 @@ import org.springframework.stereotype.Service;
 @Service
 public class JwtService {
 
-    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+    private final int claimsCacheMaxSize;
+    private final ReentrantLock claimsCacheLock = new ReentrantLock();
+    private final Map<String, CachedClaims> claimsCache;
+    private final Counter claimsCacheHits;
+    private final Timer verifiedTimer;
+    private final Timer rejectedTimer;
 
     public JwtService(
-            @Value("${app.jwt.secret:change-me-in-prod-change-me-in-prod-change-me}") String secret
+            @Value("${app.jwt.secret:change-me-in-prod-change-me-in-prod-change-me}") String secret,
+            @Value("${app.jwt.claims-cache.max-size:10000}") int claimsCacheMaxSize,
+            MeterRegistry meterRegistry
     ) {
-        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        SecretKey signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.claimsCacheMaxSize = claimsCacheMaxSize;
+        // Access-ordered, so evicting the least recently used token is O(1) once the cache is full.
+        this.claimsCache = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedClaims> eldest) {
+                return size() > JwtService.this.claimsCacheMaxSize;
+            }
+        };
+        this.claimsCacheHits = meterRegistry.counter("ordernest.jwt.claims.cache.hits");
+        this.verifiedTimer = meterRegistry.timer("ordernest.jwt.verification", "outcome", "valid");
+        this.rejectedTimer = meterRegistry.timer("ordernest.jwt.verification", "outcome", "invalid");
+        meterRegistry.gauge("ordernest.jwt.claims.cache.size", Tags.empty(), this, JwtService::claimsCacheSize);
+    }
+
+    public AuthenticatedUser parseAuthenticatedUser(String token) {
+        Claims claims = extractAllClaims(token);
+        Date expiration = claims.getExpiration();
+        if (claims.getSubject() == null || expiration == null || !expiration.after(new Date())) {
+            return null;
+        }
+
+        return new AuthenticatedUser(
+                parseUserId(claims.get("userId", String.class)),
+                claims.getSubject(),
+                normalizeRole(claims.get("role", String.class)),
+                expiration.toInstant()
+        );
     }
 
     public String extractEmail(String token) {
@@ -43,11 +94,99 @@ public class JwtService {
         return extractAllClaims(token).get("role", String.class);
     }
 
+    private UUID parseUserId(String rawUserId) {
+        if (rawUserId == null || rawUserId.isBlank()) {
+            return null;
+        }
+        try {
+            return UUID.fromString(rawUserId);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private String normalizeRole(String role) {
+        if (role == null || role.isBlank()) {
+            return AuthenticatedUser.ROLE_USER;
+        }
+
+        String trimmedRole = role.trim().toUpperCase(Locale.ROOT);
+        if (!trimmedRole.startsWith("ROLE_")) {
+            trimmedRole = "ROLE_" + trimmedRole;
+        }
+        return trimmedRole;
+    }
+
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(signingKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        String cacheKey = digest(token);
+        long now = System.currentTimeMillis();
+
+        CachedClaims cached = cachedClaims(cacheKey, now);
+        if (cached != null) {
+            claimsCacheHits.increment();
+            return cached.claims();
+        }
+
+        long start = System.nanoTime();
+        Claims claims;
+        try {
+            claims = jwtParser.parseSignedClaims(token).getPayload();
+        } catch (RuntimeException ex) {
+            rejectedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw ex;
+        }
+        verifiedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        Date expiration = claims.getExpiration();
+        if (expiration != null && expiration.getTime() > now) {
+            cacheClaims(cacheKey, new CachedClaims(claims, expiration.getTime()));
+        }
+        return claims;
+    }
+
+    private CachedClaims cachedClaims(String cacheKey, long now) {
+        claimsCacheLock.lock();
+        try {
+            CachedClaims cached = claimsCache.get(cacheKey);
+            if (cached != null && cached.expiresAtMillis() <= now) {
+                claimsCache.remove(cacheKey);
+                return null;
+            }
+            return cached;
+        } finally {
+            claimsCacheLock.unlock();
+        }
+    }
+
+    private void cacheClaims(String cacheKey, CachedClaims claims) {
+        if (claimsCacheMaxSize <= 0) {
+            return;
+        }
+        claimsCacheLock.lock();
+        try {
+            claimsCache.put(cacheKey, claims);
+        } finally {
+            claimsCacheLock.unlock();
+        }
+    }
+
+    private double claimsCacheSize() {
+        claimsCacheLock.lock();
+        try {
+            return claimsCache.size();
+        } finally {
+            claimsCacheLock.unlock();
+        }
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private record CachedClaims(Claims claims, long expiresAtMillis) {
     }
 }
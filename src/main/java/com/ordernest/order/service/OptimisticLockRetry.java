@@ -0,0 +1,81 @@
+package com.ordernest.order.service;
+
+import com.ordernest.order.exception.ConflictException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+public class OptimisticLockRetry {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder recovered = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    public OptimisticLockRetry(
+            TransactionTemplate transactionTemplate,
+            @Value("${app.orders.optimistic-lock.max-attempts:4}") int maxAttempts,
+            @Value("${app.orders.optimistic-lock.backoff:20ms}") Duration backoff
+    ) {
+        this.transactionTemplate = transactionTemplate;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoff.toMillis();
+    }
+
+    // Each attempt runs in a fresh transaction, so the order is re-read at its latest version before re-applying.
+    public <T> T execute(String operation, Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T result = transactionTemplate.execute(status -> action.get());
+                if (attempt > 1) {
+                    recovered.increment();
+                }
+                return result;
+            } catch (OptimisticLockingFailureException ex) {
+                conflicts.increment();
+                if (attempt >= maxAttempts) {
+                    exhausted.increment();
+                    log.warn("Giving up on {} after {} conflicting attempts", operation, attempt);
+                    throw new ConflictException("Order was modified concurrently, please retry");
+                }
+                log.debug("Optimistic lock conflict on {} (attempt {}), retrying", operation, attempt);
+                pause(operation, attempt);
+            }
+        }
+    }
+
+    public void run(String operation, Runnable action) {
+        execute(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public OptimisticLockStats stats() {
+        return new OptimisticLockStats(conflicts.sum(), recovered.sum(), exhausted.sum());
+    }
+
+    private void pause(String operation, int attempt) {
+        if (backoffMillis <= 0) {
+            return;
+        }
+        long delay = backoffMillis * attempt + ThreadLocalRandom.current().nextLong(backoffMillis + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ConflictException("Interrupted while retrying " + operation);
+        }
+    }
+}
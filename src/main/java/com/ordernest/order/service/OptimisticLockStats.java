@@ -0,0 +1,8 @@
+package com.ordernest.order.service;
+
+public record OptimisticLockStats(
+        long conflicts,
+        long recovered,
+        long exhausted
+) {
+}
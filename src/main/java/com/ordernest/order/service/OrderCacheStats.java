@@ -0,0 +1,11 @@
+package com.ordernest.order.service;
+
+public record OrderCacheStats(
+        int size,
+        long hits,
+        long misses,
+        double hitRatio,
+        long evictions,
+        long invalidations
+) {
+}
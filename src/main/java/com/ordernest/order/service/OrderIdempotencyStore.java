@@ -0,0 +1,237 @@
+package com.ordernest.order.service;
+
+import com.ordernest.order.exception.BadRequestException;
+import com.ordernest.order.exception.ConflictException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Component
+public class OrderIdempotencyStore {
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final long MAX_POLL_MILLIS = 500;
+    private static final String STATUS_IN_PROGRESS = "IN_PROGRESS";
+    private static final String STATUS_COMPLETED = "COMPLETED";
+
+    // A stale IN_PROGRESS row means its owner died mid-request; anyone may take it over once the lease runs out.
+    private static final String CLAIM_SQL = """
+            insert into order_idempotency_keys
+                (user_id, idempotency_key, request_fingerprint, status, claim_token, created_at, updated_at)
+            values (?, ?, ?, 'IN_PROGRESS', ?, ?, ?)
+            on conflict (user_id, idempotency_key) do update
+                set request_fingerprint = excluded.request_fingerprint,
+                    claim_token = excluded.claim_token,
+                    updated_at = excluded.updated_at
+                where order_idempotency_keys.status = 'IN_PROGRESS'
+                  and order_idempotency_keys.updated_at < ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration retention;
+    private final Duration lease;
+    private final Duration waitTimeout;
+    private final Map<Key, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    public OrderIdempotencyStore(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.orders.idempotency.retention:24h}") Duration retention,
+            @Value("${app.orders.idempotency.lease:30s}") Duration lease,
+            @Value("${app.orders.idempotency.wait-timeout:10s}") Duration waitTimeout
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retention = retention;
+        this.lease = lease;
+        this.waitTimeout = waitTimeout;
+    }
+
+    // Returns a replay of the order created by an earlier request with the same key, or a claim this caller now owns.
+    public Claim claimOrAwait(UUID userId, String idempotencyKey, Map<UUID, Integer> requestedQuantities) {
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BadRequestException("Idempotency-Key must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+
+        Key key = new Key(userId, idempotencyKey);
+        String fingerprint = fingerprint(requestedQuantities);
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        long pollMillis = 25;
+        while (true) {
+            Instant now = Instant.now();
+            UUID token = UUID.randomUUID();
+            int claimed = jdbcTemplate.update(
+                    CLAIM_SQL,
+                    userId,
+                    idempotencyKey,
+                    fingerprint,
+                    token,
+                    Timestamp.from(now),
+                    Timestamp.from(now),
+                    Timestamp.from(now.minus(lease))
+            );
+            if (claimed > 0) {
+                inFlight.put(key, new CompletableFuture<>());
+                return new Claim(userId, idempotencyKey, token, null);
+            }
+
+            List<StoredKey> stored = jdbcTemplate.query(
+                    "select request_fingerprint, status, order_id from order_idempotency_keys"
+                            + " where user_id = ? and idempotency_key = ?",
+                    (rs, rowNum) -> new StoredKey(
+                            rs.getString("request_fingerprint"),
+                            rs.getString("status"),
+                            rs.getObject("order_id", UUID.class)
+                    ),
+                    userId,
+                    idempotencyKey
+            );
+            if (!stored.isEmpty()) {
+                StoredKey existing = stored.get(0);
+                if (!existing.fingerprint().equals(fingerprint)) {
+                    throw new ConflictException("Idempotency-Key was already used for a different order request");
+                }
+                if (STATUS_COMPLETED.equals(existing.status())) {
+                    return new Claim(userId, idempotencyKey, null, existing.orderId());
+                }
+            }
+
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                throw new ConflictException("A request with this Idempotency-Key is still being processed, please retry");
+            }
+            // Same-pod duplicates wake up as soon as the first attempt finishes; others fall back to polling.
+            awaitOwner(key, Math.min(TimeUnit.NANOSECONDS.toMillis(remainingNanos) + 1, pollMillis));
+            pollMillis = Math.min(pollMillis * 2, MAX_POLL_MILLIS);
+        }
+    }
+
+    // Must run inside the transaction that inserts the order, so the key and the order commit together.
+    // Throws if the lease expired and another request took the key over, which rolls this order back.
+    public void complete(Claim claim, UUID orderId) {
+        int updated = jdbcTemplate.update(
+                "update order_idempotency_keys set status = ?, order_id = ?, updated_at = ?"
+                        + " where user_id = ? and idempotency_key = ? and claim_token = ? and status = ?",
+                STATUS_COMPLETED,
+                orderId,
+                Timestamp.from(Instant.now()),
+                claim.userId(),
+                claim.idempotencyKey(),
+                claim.token(),
+                STATUS_IN_PROGRESS
+        );
+        if (updated == 0) {
+            throw new ConflictException("A request with this Idempotency-Key took over after this one stalled, please retry");
+        }
+        Key key = new Key(claim.userId(), claim.idempotencyKey());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    release(key);
+                }
+            });
+        } else {
+            release(key);
+        }
+    }
+
+    // The first attempt failed without creating an order, so a retry with the same key may start over.
+    // Only deletes the row while this claim still owns it, never a newer owner's.
+    public void abandon(Claim claim) {
+        try {
+            jdbcTemplate.update(
+                    "delete from order_idempotency_keys"
+                            + " where user_id = ? and idempotency_key = ? and claim_token = ? and status = ?",
+                    claim.userId(),
+                    claim.idempotencyKey(),
+                    claim.token(),
+                    STATUS_IN_PROGRESS
+            );
+        } catch (RuntimeException ex) {
+            // The lease still expires on its own, so a retry is delayed rather than blocked.
+            log.warn("Failed to release idempotency key for userId={}", claim.userId(), ex);
+        } finally {
+            release(new Key(claim.userId(), claim.idempotencyKey()));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.orders.idempotency.cleanup-interval-ms:3600000}")
+    public void purgeExpired() {
+        int deleted = jdbcTemplate.update(
+                "delete from order_idempotency_keys where created_at < ?",
+                Timestamp.from(Instant.now().minus(retention))
+        );
+        if (deleted > 0) {
+            log.info("Purged {} order idempotency keys older than {}", deleted, retention);
+        }
+    }
+
+    private void awaitOwner(Key key, long timeoutMillis) {
+        CompletableFuture<Void> owner = inFlight.get(key);
+        try {
+            if (owner != null) {
+                owner.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } else {
+                Thread.sleep(timeoutMillis);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ConflictException("Interrupted while waiting for a request with the same Idempotency-Key");
+        } catch (ExecutionException | TimeoutException ex) {
+            // Fall through and re-read the stored key.
+        }
+    }
+
+    private void release(Key key) {
+        CompletableFuture<Void> owner = inFlight.remove(key);
+        if (owner != null) {
+            owner.complete(null);
+        }
+    }
+
+    private String fingerprint(Map<UUID, Integer> requestedQuantities) {
+        StringBuilder canonical = new StringBuilder();
+        new TreeMap<>(requestedQuantities).forEach((productId, quantity) ->
+                canonical.append(productId).append(':').append(quantity).append(';'));
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    // Either a replay of an already created order, or ownership of the key identified by a token unique to this attempt.
+    public record Claim(UUID userId, String idempotencyKey, UUID token, UUID existingOrderId) {
+
+        public boolean isReplay() {
+            return existingOrderId != null;
+        }
+    }
+
+    private record Key(UUID userId, String idempotencyKey) {
+    }
+
+    private record StoredKey(String fingerprint, String status, UUID orderId) {
+    }
+}
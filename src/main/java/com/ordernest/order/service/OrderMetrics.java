@@ -0,0 +1,74 @@
+package com.ordernest.order.service;
+
+import com.ordernest.order.entity.OrderStatus;
+import com.ordernest.order.entity.ShipmentStatus;
+import com.ordernest.order.exception.BadRequestException;
+import com.ordernest.order.exception.ConflictException;
+import com.ordernest.order.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@RequiredArgsConstructor
+public class OrderMetrics {
+
+    private static final String NONE = "NONE";
+
+    private final MeterRegistry meterRegistry;
+
+    public void orderCreated(String outcome, int count) {
+        if (count > 0) {
+            meterRegistry.counter("ordernest.orders.creations", "outcome", outcome).increment(count);
+        }
+    }
+
+    public void orderCreationFailed(RuntimeException ex) {
+        orderCreated(creationOutcome(ex), 1);
+    }
+
+    public void statusTransition(OrderStatus from, OrderStatus to, int count) {
+        afterCommit(() -> meterRegistry.counter(
+                "ordernest.orders.status.transitions",
+                "from", from == null ? NONE : from.name(),
+                "to", to.name()
+        ).increment(count));
+    }
+
+    public void shipmentTransition(ShipmentStatus from, ShipmentStatus to) {
+        afterCommit(() -> meterRegistry.counter(
+                "ordernest.orders.shipment.transitions",
+                "from", from == null ? NONE : from.name(),
+                "to", to.name()
+        ).increment());
+    }
+
+    private String creationOutcome(RuntimeException ex) {
+        if (ex instanceof BadRequestException) {
+            return "rejected";
+        }
+        if (ex instanceof ServiceUnavailableException) {
+            return "unavailable";
+        }
+        if (ex instanceof ConflictException) {
+            return "conflict";
+        }
+        return "failed";
+    }
+
+    // Rolled back and retried attempts must not be counted, so transitions are recorded once they are durable.
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,94 @@
+package com.ordernest.order.service;
+
+import com.ordernest.order.cache.LruCache;
+import com.ordernest.order.dto.OrderResponse;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class OrderResponseCache {
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final LruCache<UUID, Entry> entries;
+    // Bumped on every invalidation; a load that raced with one is not cached.
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final long ttlNanos;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public OrderResponseCache(
+            @Value("${app.orders.cache.ttl:30s}") Duration ttl,
+            @Value("${app.orders.cache.max-size:10000}") int maxSize
+    ) {
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LruCache<>(maxSize);
+    }
+
+    public OrderResponse get(UUID orderId, Supplier<OrderResponse> loader) {
+        Entry entry = entries.get(orderId);
+        if (entry != null && System.nanoTime() - entry.loadedAtNanos() <= ttlNanos) {
+            hits.increment();
+            return entry.response();
+        }
+
+        misses.increment();
+        int stripe = stripe(orderId);
+        long generation = generations.get(stripe);
+        OrderResponse response = loader.get();
+        if (generations.get(stripe) == generation) {
+            entries.put(orderId, new Entry(response, System.nanoTime()));
+        }
+        return response;
+    }
+
+    public void invalidate(UUID orderId) {
+        generations.incrementAndGet(stripe(orderId));
+        entries.remove(orderId);
+        invalidations.increment();
+    }
+
+    // Evicting before commit would let a concurrent read re-cache the old row, so wait until the change is visible.
+    public void invalidateAfterCommit(UUID orderId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(orderId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(orderId);
+            }
+        });
+    }
+
+    public OrderCacheStats stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        return new OrderCacheStats(
+                entries.size(),
+                hitCount,
+                missCount,
+                total == 0 ? 0 : (double) hitCount / total,
+                entries.evictions(),
+                invalidations.sum()
+        );
+    }
+
+    private int stripe(UUID orderId) {
+        return Math.floorMod(orderId.hashCode(), GENERATION_STRIPES);
+    }
+
+    private record Entry(OrderResponse response, long loadedAtNanos) {
+    }
+}
@@ -2,12 +2,19 @@ package com.ordernest.order.service;
 
 import com.ordernest.order.client.InventoryClient;
 import com.ordernest.order.client.InventoryProductResponse;
+import com.ordernest.order.client.InventoryReservationRequest;
+import com.ordernest.order.client.InventoryReservationResponse;
+import com.ordernest.order.dto.BulkCreateOrderRequest;
+import com.ordernest.order.dto.BulkCreateOrderResponse;
 import com.ordernest.order.dto.CreateOrderRequest;
 import com.ordernest.order.dto.CreateOrderResponse;
 import com.ordernest.order.dto.OrderItemResponse;
+import com.ordernest.order.dto.OrderPageResponse;
 import com.ordernest.order.dto.OrderResponse;
+import com.ordernest.order.dto.OrderTimelineEntryResponse;
 import com.ordernest.order.dto.UpdateShipmentStatusRequest;
 import com.ordernest.order.entity.CustomerOrder;
+import com.ordernest.order.entity.OrderItem;
 import com.ordernest.order.entity.OrderStatus;
 import com.ordernest.order.entity.PaymentStatus;
 import com.ordernest.order.entity.ShipmentStatus;
@@ -19,85 +26,345 @@ import com.ordernest.order.event.PaymentEventType;
 import com.ordernest.order.event.ShipmentStatusEvent;
 import com.ordernest.order.exception.BadRequestException;
 import com.ordernest.order.exception.ResourceNotFoundException;
+import com.ordernest.order.exception.ServiceUnavailableException;
+import com.ordernest.order.messaging.OrderCacheInvalidationPublisher;
 import com.ordernest.order.messaging.OrderCancellationEventPublisher;
 import com.ordernest.order.messaging.OrderStatusEventPublisher;
 import com.ordernest.order.messaging.ShipmentStatusEventPublisher;
+import com.ordernest.order.repository.OrderItemView;
 import com.ordernest.order.repository.OrderRepository;
-import com.ordernest.order.security.JwtService;
+import com.ordernest.order.repository.OrderView;
+import com.ordernest.order.security.AuthenticatedUser;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class OrderService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final OrderRepository orderRepository;
     private final InventoryClient inventoryClient;
-    private final JwtService jwtService;
     private final OrderCancellationEventPublisher orderCancellationEventPublisher;
     private final OrderStatusEventPublisher orderStatusEventPublisher;
     private final ShipmentStatusEventPublisher shipmentStatusEventPublisher;
+    private final PaymentEventDeduplicator paymentEventDeduplicator;
+    private final OptimisticLockRetry optimisticLockRetry;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderIdempotencyStore orderIdempotencyStore;
+    private final OrderResponseCache orderResponseCache;
+    private final OrderCacheInvalidationPublisher orderCacheInvalidationPublisher;
+    private final OrderMetrics orderMetrics;
+    private final OrderStatusHistory orderStatusHistory;
+    private final ReservationCompleter reservationCompleter;
+
+    public CreateOrderResponse createOrder(CreateOrderRequest request, AuthenticatedUser user, String authorization) {
+        return createOrder(request, user, authorization, null);
+    }
 
-    @Transactional
-    public CreateOrderResponse createOrder(CreateOrderRequest request, String authorization) {
-        UUID userId = extractUserIdFromAuthorization(authorization);
-        InventoryProductResponse inventoryProduct = inventoryClient.getProductById(request.item().productId(), authorization);
-        int available = inventoryProduct.availableQuantity() == null ? 0 : inventoryProduct.availableQuantity();
-        int requested = request.item().quantity();
+    // Inventory is called outside any transaction so a JDBC connection is only held for the insert itself.
+    public CreateOrderResponse createOrder(
+            CreateOrderRequest request,
+            AuthenticatedUser user,
+            String authorization,
+            String idempotencyKey
+    ) {
+        try {
+            return placeOrder(request, user, authorization, idempotencyKey);
+        } catch (RuntimeException ex) {
+            orderMetrics.orderCreationFailed(ex);
+            throw ex;
+        }
+    }
 
-        if (requested > available) {
-            throw new BadRequestException("Insufficient inventory. Available: " + available + ", requested: " + requested);
+    private CreateOrderResponse placeOrder(
+            CreateOrderRequest request,
+            AuthenticatedUser user,
+            String authorization,
+            String idempotencyKey
+    ) {
+        UUID userId = requireUserId(user);
+        Map<UUID, Integer> requestedQuantities = mergeLineItems(request);
+        OrderIdempotencyStore.Claim claim = idempotencyKey == null || idempotencyKey.isBlank()
+                ? null
+                : orderIdempotencyStore.claimOrAwait(userId, idempotencyKey, requestedQuantities);
+        if (claim != null && claim.isReplay()) {
+            orderMetrics.orderCreated("replayed", 1);
+            return new CreateOrderResponse(claim.existingOrderId());
         }
 
-        BigDecimal unitPrice = inventoryProduct.price(); // must be BigDecimal
-        BigDecimal totalAmount = unitPrice.multiply(BigDecimal.valueOf(requested));
+        try {
+            Map<UUID, InventoryProductResponse> products =
+                    inventoryClient.getProductsDetails(requestedQuantities.keySet(), authorization);
+            CustomerOrder order = buildOrder(userId, requestedQuantities, products);
+
+            List<UUID> orderIds = List.of(order.getId());
+            reservationCompleter.scheduleRelease(orderIds);
+            InventoryReservationResponse reservation;
+            try {
+                reservation = inventoryClient.reserveStock(order.getId(), toReservationItems(order), authorization);
+            } catch (RuntimeException ex) {
+                // The call may have reserved stock before failing; release now rather than after the grace period.
+                reservationCompleter.complete(orderIds, ReservationAction.RELEASE, authorization);
+                throw ex;
+            }
+            if (!reservation.isReserved()) {
+                reservationCompleter.cancelRelease(orderIds);
+                throw new BadRequestException(reservation.reason() == null ? "Insufficient inventory" : reservation.reason());
+            }
+            CustomerOrder saved = persistReservedOrders(orderIds, authorization, () -> {
+                CustomerOrder persisted = orderRepository.save(order);
+                orderStatusHistory.recordIfChanged(persisted, null, "Order created");
+                publishOrderStatusChanged(persisted, null, "Order created");
+                if (claim != null) {
+                    orderIdempotencyStore.complete(claim, persisted.getId());
+                }
+                return persisted;
+            });
+            orderMetrics.orderCreated("created", 1);
+            return new CreateOrderResponse(saved.getId());
+        } catch (RuntimeException ex) {
+            if (claim != null) {
+                orderIdempotencyStore.abandon(claim);
+            }
+            throw ex;
+        }
+    }
 
-        int updatedAvailableQuantity = available - requested;
-        inventoryClient.updateProductStock(request.item().productId(), updatedAvailableQuantity, authorization);
+    public BulkCreateOrderResponse createOrders(BulkCreateOrderRequest request, AuthenticatedUser user, String authorization) {
+        UUID userId = requireUserId(user);
+        List<CreateOrderRequest> orderRequests = request.orders();
+        BulkCreateOrderResponse.Result[] results = new BulkCreateOrderResponse.Result[orderRequests.size()];
+
+        List<Map<UUID, Integer>> requestedQuantities = new ArrayList<>(orderRequests.size());
+        Set<UUID> productIds = new LinkedHashSet<>();
+        for (int i = 0; i < orderRequests.size(); i++) {
+            try {
+                Map<UUID, Integer> quantities = mergeLineItems(orderRequests.get(i));
+                requestedQuantities.add(quantities);
+                productIds.addAll(quantities.keySet());
+            } catch (BadRequestException ex) {
+                requestedQuantities.add(null);
+                results[i] = BulkCreateOrderResponse.Result.failed(i, ex.getMessage());
+            }
+        }
 
-        CustomerOrder order = new CustomerOrder();
-        order.setUserId(userId);
-        order.setProductId(request.item().productId());
-        order.setProductName(inventoryProduct.name());
-        order.setQuantity(requested);
-        order.setTotalAmount(totalAmount);
-        order.setCurrency(inventoryProduct.currency());
-        order.setStatus(OrderStatus.CREATED);
-        order.setPaymentStatus(PaymentStatus.UNPAID);
-        order.setShipmentStatus(ShipmentStatus.NOT_CREATED);
+        Map<UUID, InventoryProductResponse> products = new HashMap<>();
+        Map<UUID, String> lookupFailures = new HashMap<>();
+        lookUpProducts(productIds, authorization, products, lookupFailures);
 
-        CustomerOrder saved = orderRepository.save(order);
-        publishOrderStatusChanged(saved, null, "Order created");
-        return new CreateOrderResponse(saved.getId());
+        Map<UUID, Integer> indexByOrderId = new LinkedHashMap<>();
+        Map<UUID, CustomerOrder> pendingOrders = new LinkedHashMap<>();
+        for (int i = 0; i < orderRequests.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            String lookupFailure = requestedQuantities.get(i).keySet().stream()
+                    .map(lookupFailures::get)
+                    .filter(Objects::nonNull)
+                    .findFirst()
+                    .orElse(null);
+            if (lookupFailure != null) {
+                results[i] = BulkCreateOrderResponse.Result.failed(i, lookupFailure);
+                continue;
+            }
+            try {
+                CustomerOrder order = buildOrder(userId, requestedQuantities.get(i), products);
+                pendingOrders.put(order.getId(), order);
+                indexByOrderId.put(order.getId(), i);
+            } catch (BadRequestException ex) {
+                results[i] = BulkCreateOrderResponse.Result.failed(i, ex.getMessage());
+            }
+        }
+
+        List<InventoryReservationRequest> reservations = pendingOrders.values().stream()
+                .map(order -> new InventoryReservationRequest(order.getId(), toReservationItems(order)))
+                .toList();
+        List<CustomerOrder> reservedOrders = new ArrayList<>(reservations.size());
+        List<InventoryReservationResponse> reservationResponses = List.of();
+        List<UUID> declinedOrderIds = new ArrayList<>();
+        if (!reservations.isEmpty()) {
+            reservationCompleter.scheduleRelease(List.copyOf(pendingOrders.keySet()));
+            try {
+                reservationResponses = inventoryClient.reserveStockBulk(reservations, authorization);
+            } catch (BadRequestException | ServiceUnavailableException ex) {
+                log.warn("Bulk inventory reservation failed for {} orders", reservations.size(), ex);
+            }
+            for (InventoryReservationResponse reservation : reservationResponses) {
+                CustomerOrder order = pendingOrders.remove(reservation.orderId());
+                if (order == null) {
+                    continue;
+                }
+                if (reservation.isReserved()) {
+                    reservedOrders.add(order);
+                } else {
+                    declinedOrderIds.add(order.getId());
+                    int index = indexByOrderId.get(order.getId());
+                    results[index] = BulkCreateOrderResponse.Result.failed(index, reservation.reason() == null
+                            ? "Insufficient inventory"
+                            : reservation.reason());
+                }
+            }
+        }
+        for (CustomerOrder unanswered : pendingOrders.values()) {
+            int index = indexByOrderId.get(unanswered.getId());
+            results[index] = BulkCreateOrderResponse.Result.failed(index, "Inventory reservation was not confirmed");
+        }
+        reservationCompleter.cancelRelease(declinedOrderIds);
+        // Inventory may have reserved these without answering; releasing an unknown reservation is harmless.
+        if (!pendingOrders.isEmpty()) {
+            reservationCompleter.complete(List.copyOf(pendingOrders.keySet()), ReservationAction.RELEASE, authorization);
+        }
+
+        if (!reservedOrders.isEmpty()) {
+            List<UUID> reservedOrderIds = reservedOrders.stream().map(CustomerOrder::getId).toList();
+            List<CustomerOrder> savedOrders = persistReservedOrders(reservedOrderIds, authorization, () -> {
+                List<CustomerOrder> persisted = orderRepository.saveAll(reservedOrders);
+                orderStatusEventPublisher.publishAll(persisted.stream()
+                        .map(saved -> buildOrderStatusEvent(saved, null, "Order created"))
+                        .toList());
+                orderStatusHistory.recordCreated(persisted, "Order created");
+                orderMetrics.statusTransition(null, OrderStatus.CREATED, persisted.size());
+                return persisted;
+            });
+            for (CustomerOrder saved : savedOrders) {
+                int index = indexByOrderId.get(saved.getId());
+                results[index] = BulkCreateOrderResponse.Result.created(index, saved.getId());
+            }
+        }
+
+        BulkCreateOrderResponse response = BulkCreateOrderResponse.of(List.of(results));
+        orderMetrics.orderCreated("created", response.created());
+        orderMetrics.orderCreated("rejected", response.failed());
+        return response;
+    }
+
+    // One bad product should only fail the orders that contain it, so a failed batch lookup falls back to single lookups.
+    private void lookUpProducts(
+            Set<UUID> productIds,
+            String authorization,
+            Map<UUID, InventoryProductResponse> products,
+            Map<UUID, String> failures
+    ) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        try {
+            products.putAll(inventoryClient.getProductsDetails(productIds, authorization));
+            return;
+        } catch (BadRequestException | ServiceUnavailableException ex) {
+            log.warn("Batch product lookup failed for {} products, looking them up one by one", productIds.size(), ex);
+        }
+
+        String unavailable = null;
+        for (UUID productId : productIds) {
+            if (unavailable != null) {
+                failures.put(productId, unavailable);
+                continue;
+            }
+            try {
+                products.put(productId, inventoryClient.getProductDetails(productId, authorization));
+            } catch (ServiceUnavailableException ex) {
+                // Inventory is shedding load; don't hammer it with the remaining lookups.
+                unavailable = ex.getMessage();
+                failures.put(productId, unavailable);
+            } catch (BadRequestException ex) {
+                failures.put(productId, ex.getMessage());
+            }
+        }
     }
 
-    @Transactional(readOnly = true)
     public OrderResponse getOrderById(UUID orderId) {
-        return mapToResponse(findById(orderId));
+        return orderResponseCache.get(orderId, () -> loadOrder(orderId));
+    }
+
+    public List<OrderTimelineEntryResponse> getOrderTimeline(UUID orderId, AuthenticatedUser user) {
+        boolean admin = user != null && user.isAdmin();
+        UUID userId = admin ? null : requireUserId(user);
+        OrderStatusHistory.Timeline timeline = orderStatusHistory.timeline(orderId);
+        UUID ownerId = timeline.userId();
+        // Orders placed before history was recorded have no rows; only then is the orders table consulted.
+        if (ownerId == null) {
+            ownerId = orderRepository.findViewById(orderId)
+                    .map(OrderView::userId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Order not found with id: " + orderId));
+        }
+        if (!admin && !userId.equals(ownerId)) {
+            throw new AccessDeniedException("Order does not belong to authenticated user");
+        }
+        return timeline.entries();
+    }
+
+    private OrderResponse loadOrder(UUID orderId) {
+        OrderView order = orderRepository.findViewById(orderId)
+                .orElseThrow(() -> new ResourceNotFoundException("Order not found with id: " + orderId));
+        return mapToResponse(order, orderRepository.findItemViewsByOrderIds(List.of(orderId)));
     }
 
     @Transactional(readOnly = true)
-    public List<OrderResponse> getMyOrders(String authorization) {
-        UUID userId = extractUserIdFromAuthorization(authorization);
-        return orderRepository.findByUserIdOrderByCreatedAtDesc(userId)
+    public OrderPageResponse getMyOrders(AuthenticatedUser user, String cursor, Integer limit) {
+        UUID userId = requireUserId(user);
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+
+        // One extra row tells us whether another page exists without a count query.
+        Limit fetchLimit = Limit.of(pageSize + 1);
+        List<OrderView> orders;
+        if (cursor == null || cursor.isBlank()) {
+            orders = orderRepository.findLatestViewsByUserId(userId, fetchLimit);
+        } else {
+            OrderPageCursor after = OrderPageCursor.decode(cursor);
+            orders = orderRepository.findViewsByUserIdBefore(userId, after.createdAt(), after.id(), fetchLimit);
+        }
+
+        String nextCursor = null;
+        if (orders.size() > pageSize) {
+            orders = orders.subList(0, pageSize);
+            OrderView last = orders.get(pageSize - 1);
+            nextCursor = new OrderPageCursor(last.createdAt(), last.id()).encode();
+        }
+        if (orders.isEmpty()) {
+            return new OrderPageResponse(List.of(), null);
+        }
+
+        Map<UUID, List<OrderItemView>> itemsByOrderId = orderRepository
+                .findItemViewsByOrderIds(orders.stream().map(OrderView::id).toList())
                 .stream()
-                .map(this::mapToResponse)
+                .collect(Collectors.groupingBy(OrderItemView::orderId));
+        List<OrderResponse> responses = orders.stream()
+                .map(order -> mapToResponse(order, itemsByOrderId.getOrDefault(order.id(), List.of())))
                 .toList();
+        return new OrderPageResponse(responses, nextCursor);
+    }
+
+    public OrderResponse cancelOrderByUser(UUID orderId, AuthenticatedUser user) {
+        UUID userId = requireUserId(user);
+        return optimisticLockRetry.execute("cancelOrder", () -> cancelOrder(orderId, userId));
     }
 
-    @Transactional
-    public OrderResponse cancelOrderByUser(UUID orderId, String authorization) {
-        UUID userId = extractUserIdFromAuthorization(authorization);
+    private OrderResponse cancelOrder(UUID orderId, UUID userId) {
         CustomerOrder order = findById(orderId);
 
         if (!userId.equals(order.getUserId())) {
@@ -105,6 +372,7 @@ public class OrderService {
         }
 
         OrderStatus previousOrderStatus = order.getStatus();
+        OrderStatusHistory.Snapshot previous = OrderStatusHistory.Snapshot.of(order);
 
         order.setStatus(OrderStatus.CANCELLED);
 
@@ -127,6 +395,8 @@ public class OrderService {
         }
 
         CustomerOrder saved = orderRepository.save(order);
+        invalidateCachedOrder(saved.getId());
+        orderStatusHistory.recordIfChanged(saved, previous, "User cancelled order");
 
         if (previousOrderStatus != OrderStatus.CANCELLED) {
             publishOrderCancellationEvent(saved, "User cancelled order");
@@ -136,56 +406,103 @@ public class OrderService {
         return mapToResponse(saved);
     }
 
-    @Transactional
     public void applyPaymentEvent(PaymentEvent paymentEvent) {
-        if (paymentEvent == null || paymentEvent.orderId() == null || paymentEvent.eventType() == null) {
-            log.warn("Skipping payment event with missing required fields: {}", paymentEvent);
+        applyPaymentEvents(List.of(paymentEvent));
+    }
+
+    public void applyPaymentEvents(List<PaymentEvent> paymentEvents) {
+        optimisticLockRetry.run("applyPaymentEvents", () -> applyPaymentEventsInTransaction(paymentEvents));
+    }
+
+    private void applyPaymentEventsInTransaction(List<PaymentEvent> paymentEvents) {
+        List<PaymentEvent> validEvents = new ArrayList<>(paymentEvents.size());
+        List<UUID> orderIds = new ArrayList<>(paymentEvents.size());
+        List<PaymentEventKey> eventKeys = new ArrayList<>(paymentEvents.size());
+        for (PaymentEvent paymentEvent : paymentEvents) {
+            if (paymentEvent == null || paymentEvent.orderId() == null || paymentEvent.eventType() == null) {
+                log.warn("Skipping payment event with missing required fields: {}", paymentEvent);
+                continue;
+            }
+
+            UUID orderId;
+            try {
+                orderId = UUID.fromString(paymentEvent.orderId());
+            } catch (IllegalArgumentException ex) {
+                log.warn("Skipping payment event with invalid orderId: {}", paymentEvent.orderId());
+                continue;
+            }
+            validEvents.add(paymentEvent);
+            orderIds.add(orderId);
+            eventKeys.add(PaymentEventKey.of(orderId, paymentEvent));
+        }
+        if (validEvents.isEmpty()) {
             return;
         }
 
-        UUID orderId;
-        try {
-            orderId = UUID.fromString(paymentEvent.orderId());
-        } catch (IllegalArgumentException ex) {
-            log.warn("Skipping payment event with invalid orderId: {}", paymentEvent.orderId());
+        // Redelivered events were already applied; only keys claimed for the first time are processed.
+        // Events without a paymentId have no key and are applied as-is.
+        List<PaymentEventKey> dedupableKeys = eventKeys.stream().filter(Objects::nonNull).toList();
+        Set<PaymentEventKey> claimedKeys = dedupableKeys.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(paymentEventDeduplicator.claim(dedupableKeys));
+        Map<UUID, List<PaymentEvent>> eventsByOrderId = new LinkedHashMap<>();
+        for (int i = 0; i < validEvents.size(); i++) {
+            PaymentEventKey eventKey = eventKeys.get(i);
+            if (eventKey == null) {
+                eventsByOrderId.computeIfAbsent(orderIds.get(i), id -> new ArrayList<>()).add(validEvents.get(i));
+            } else if (claimedKeys.remove(eventKey)) {
+                eventsByOrderId.computeIfAbsent(eventKey.orderId(), id -> new ArrayList<>()).add(validEvents.get(i));
+            }
+        }
+        if (eventsByOrderId.isEmpty()) {
             return;
         }
 
-        orderRepository.findById(orderId).ifPresentOrElse(
-                order -> {
-                    OrderStatus previousStatus = order.getStatus();
-                    if (paymentEvent.paymentId() != null && !paymentEvent.paymentId().isBlank()) {
-                        order.setRazorpayPaymentId(paymentEvent.paymentId());
-                    }
-
-                    if (paymentEvent.eventType() == PaymentEventType.PAYMENT_SUCCESS) {
-                        order.setStatus(OrderStatus.CONFIRMED);
-                        order.setPaymentStatus(PaymentStatus.SUCCESS);
-                    } else if (paymentEvent.eventType() == PaymentEventType.PAYMENT_FAILED) {
-                        order.setStatus(OrderStatus.CANCELLED);
-                        order.setPaymentStatus(PaymentStatus.FAILED);
-                        order.setShipmentStatus(ShipmentStatus.NOT_CREATED);
-                    } else if (paymentEvent.eventType() == PaymentEventType.PAYMENT_REFUNDED) {
-                        order.setStatus(OrderStatus.CANCELLED);
-                        order.setPaymentStatus(PaymentStatus.REFUNDED);
-                    }
-
-                    CustomerOrder saved = orderRepository.save(order);
-                    publishOrderStatusChanged(saved, previousStatus, resolvePaymentReason(paymentEvent));
-                },
-                () -> log.warn("Payment event received for unknown orderId: {}", orderId)
-        );
+        Map<UUID, CustomerOrder> ordersById = orderRepository.findAllById(eventsByOrderId.keySet())
+                .stream()
+                .collect(Collectors.toMap(CustomerOrder::getId, order -> order));
+
+        for (Map.Entry<UUID, List<PaymentEvent>> entry : eventsByOrderId.entrySet()) {
+            CustomerOrder order = ordersById.get(entry.getKey());
+            if (order == null) {
+                log.warn("Payment event received for unknown orderId: {}", entry.getKey());
+                continue;
+            }
+
+            // Several events for one order in a batch collapse into one net transition and one status event.
+            OrderStatus previousStatus = order.getStatus();
+            OrderStatusHistory.Snapshot previous = OrderStatusHistory.Snapshot.of(order);
+            PaymentEvent lastEvent = null;
+            for (PaymentEvent paymentEvent : entry.getValue()) {
+                applyPaymentTransition(order, paymentEvent);
+                lastEvent = paymentEvent;
+            }
+            invalidateCachedOrder(order.getId());
+            orderStatusHistory.recordIfChanged(order, previous, resolvePaymentReason(lastEvent));
+            publishOrderStatusChanged(order, previousStatus, resolvePaymentReason(lastEvent));
+        }
     }
 
-    @Transactional
-    public OrderResponse updateShipmentStatusByAdmin(UpdateShipmentStatusRequest request, String authorization) {
-        String token = extractBearerToken(authorization);
-        if (!jwtService.isTokenValid(token)) {
-            throw new AccessDeniedException("Invalid or expired token");
+    private void applyPaymentTransition(CustomerOrder order, PaymentEvent paymentEvent) {
+        if (paymentEvent.paymentId() != null && !paymentEvent.paymentId().isBlank()) {
+            order.setRazorpayPaymentId(paymentEvent.paymentId());
         }
 
-        String normalizedRole = normalizeRole(jwtService.extractRole(token));
-        if (!"ROLE_ADMIN".equals(normalizedRole)) {
+        if (paymentEvent.eventType() == PaymentEventType.PAYMENT_SUCCESS) {
+            order.setStatus(OrderStatus.CONFIRMED);
+            order.setPaymentStatus(PaymentStatus.SUCCESS);
+        } else if (paymentEvent.eventType() == PaymentEventType.PAYMENT_FAILED) {
+            order.setStatus(OrderStatus.CANCELLED);
+            order.setPaymentStatus(PaymentStatus.FAILED);
+            order.setShipmentStatus(ShipmentStatus.NOT_CREATED);
+        } else if (paymentEvent.eventType() == PaymentEventType.PAYMENT_REFUNDED) {
+            order.setStatus(OrderStatus.CANCELLED);
+            order.setPaymentStatus(PaymentStatus.REFUNDED);
+        }
+    }
+
+    public OrderResponse updateShipmentStatusByAdmin(UpdateShipmentStatusRequest request, AuthenticatedUser user) {
+        if (user == null || !user.isAdmin()) {
             throw new AccessDeniedException("Only admin can update shipment status");
         }
 
@@ -200,9 +517,13 @@ public class OrderService {
             throw new BadRequestException("Invalid orderId");
         }
 
+        ShipmentStatus next = request.shipmentStatus();
+        return optimisticLockRetry.execute("updateShipmentStatus", () -> updateShipmentStatus(orderId, next, user));
+    }
+
+    private OrderResponse updateShipmentStatus(UUID orderId, ShipmentStatus next, AuthenticatedUser user) {
         CustomerOrder order = findById(orderId);
         ShipmentStatus current = order.getShipmentStatus();
-        ShipmentStatus next = request.shipmentStatus();
 
         if (current == next) {
             return mapToResponse(order);
@@ -212,28 +533,25 @@ public class OrderService {
             throw new BadRequestException("Order must be CONFIRMED with successful payment before shipment updates");
         }
 
-        boolean validTransition =
-                (current == ShipmentStatus.NOT_CREATED && next == ShipmentStatus.CREATED)
-                        || (current == ShipmentStatus.CREATED && next == ShipmentStatus.SHIPPED)
-                        || (current == ShipmentStatus.SHIPPED && next == ShipmentStatus.DELIVERED)
-                        || (current == ShipmentStatus.DELIVERED && next == ShipmentStatus.RETURNED);
-
-        if (!validTransition) {
+        if (!current.canTransitionTo(next)) {
             throw new BadRequestException("Invalid shipment transition from " + current + " to " + next);
         }
 
+        OrderStatusHistory.Snapshot previous = OrderStatusHistory.Snapshot.of(order);
         order.setShipmentStatus(next);
+        orderMetrics.shipmentTransition(current, next);
         if (next == ShipmentStatus.RETURNED) {
             OrderStatus previousStatus = order.getStatus();
             order.setStatus(OrderStatus.CANCELLED);
             order.setPaymentStatus(PaymentStatus.REFUNDED);
             CustomerOrder saved = orderRepository.save(order);
+            invalidateCachedOrder(saved.getId());
+            orderStatusHistory.recordIfChanged(saved, previous, "Shipment returned");
 
-            String updatedBy = jwtService.extractEmail(token);
             ShipmentStatusEvent event = new ShipmentStatusEvent(
                     saved.getId().toString(),
                     next,
-                    updatedBy,
+                    user.email(),
                     Instant.now()
             );
             shipmentStatusEventPublisher.publish(event);
@@ -243,12 +561,13 @@ public class OrderService {
             return mapToResponse(saved);
         }
         CustomerOrder saved = orderRepository.save(order);
+        invalidateCachedOrder(saved.getId());
+        orderStatusHistory.recordIfChanged(saved, previous, "Shipment " + next);
 
-        String updatedBy = jwtService.extractEmail(token);
         ShipmentStatusEvent event = new ShipmentStatusEvent(
                 saved.getId().toString(),
                 next,
-                updatedBy,
+                user.email(),
                 Instant.now()
         );
         shipmentStatusEventPublisher.publish(event);
@@ -256,29 +575,120 @@ public class OrderService {
         return mapToResponse(saved);
     }
 
+    private CustomerOrder buildOrder(
+            UUID userId,
+            Map<UUID, Integer> requestedQuantities,
+            Map<UUID, InventoryProductResponse> products
+    ) {
+        CustomerOrder order = new CustomerOrder();
+        order.setId(UUID.randomUUID());
+        order.setUserId(userId);
+        order.setStatus(OrderStatus.CREATED);
+        order.setPaymentStatus(PaymentStatus.UNPAID);
+        order.setShipmentStatus(ShipmentStatus.NOT_CREATED);
+
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        for (Map.Entry<UUID, Integer> line : requestedQuantities.entrySet()) {
+            InventoryProductResponse inventoryProduct = products.get(line.getKey());
+            if (inventoryProduct == null) {
+                throw new BadRequestException("Product not found in inventory: " + line.getKey());
+            }
+            if (order.getCurrency() != null && !order.getCurrency().equals(inventoryProduct.currency())) {
+                throw new BadRequestException("All items in an order must use the same currency");
+            }
+
+            BigDecimal unitPrice = inventoryProduct.price(); // must be BigDecimal
+            BigDecimal lineAmount = unitPrice.multiply(BigDecimal.valueOf(line.getValue()));
+            totalAmount = totalAmount.add(lineAmount);
+
+            OrderItem item = new OrderItem();
+            item.setProductId(line.getKey());
+            item.setProductName(inventoryProduct.name());
+            item.setQuantity(line.getValue());
+            item.setUnitPrice(unitPrice);
+            item.setLineAmount(lineAmount);
+            item.setCurrency(inventoryProduct.currency());
+            order.addItem(item);
+            order.setCurrency(inventoryProduct.currency());
+        }
+
+        OrderItem firstItem = order.getItems().get(0);
+        order.setProductId(firstItem.getProductId());
+        order.setProductName(firstItem.getProductName());
+        order.setQuantity(firstItem.getQuantity());
+        order.setTotalAmount(totalAmount);
+        return order;
+    }
+
+    private List<InventoryReservationRequest.Item> toReservationItems(CustomerOrder order) {
+        return order.getItems().stream()
+                .map(item -> new InventoryReservationRequest.Item(item.getProductId(), item.getQuantity()))
+                .toList();
+    }
+
+    private <T> T persistReservedOrders(List<UUID> orderIds, String authorization, Supplier<T> persist) {
+        T persisted;
+        try {
+            persisted = transactionTemplate.execute(status -> {
+                T result = persist.get();
+                // Queued with the orders, so a failed commit below (or a crash before it) is retried later.
+                reservationCompleter.scheduleCommit(orderIds);
+                return result;
+            });
+        } catch (RuntimeException ex) {
+            // The orders never made it to the database, so hand the reserved stock back.
+            reservationCompleter.complete(orderIds, ReservationAction.RELEASE, authorization);
+            throw ex;
+        }
+
+        reservationCompleter.complete(orderIds, ReservationAction.COMMIT, authorization);
+        return persisted;
+    }
+
     private void publishOrderCancellationEvent(CustomerOrder order, String reason) {
-        OrderCancellationEvent event = new OrderCancellationEvent(
-                order.getProductId(),
-                order.getQuantity(),
-                order.getId().toString(),
-                OrderCancellationEventType.CANCALLED,
-                reason,
-                Instant.now()
-        );
-        orderCancellationEventPublisher.publish(event);
+        Instant now = Instant.now();
+        for (OrderItem item : resolveItems(order)) {
+            OrderCancellationEvent event = new OrderCancellationEvent(
+                    item.getProductId(),
+                    item.getQuantity(),
+                    order.getId().toString(),
+                    OrderCancellationEventType.CANCALLED,
+                    reason,
+                    now
+            );
+            orderCancellationEventPublisher.publish(event);
+        }
+    }
+
+    // The local entry is dropped after commit; the outbox event reaches every other pod, for payment-only changes too.
+    private void invalidateCachedOrder(UUID orderId) {
+        orderResponseCache.invalidateAfterCommit(orderId);
+        orderCacheInvalidationPublisher.publish(orderId);
     }
 
     private void publishOrderStatusChanged(CustomerOrder order, OrderStatus previousStatus, String reason) {
         if (previousStatus != null && previousStatus == order.getStatus()) {
             return;
         }
+        orderStatusEventPublisher.publish(buildOrderStatusEvent(order, previousStatus, reason));
+        orderMetrics.statusTransition(previousStatus, order.getStatus(), 1);
+    }
 
-        OrderStatusEvent event = new OrderStatusEvent(
+    private OrderStatusEvent buildOrderStatusEvent(CustomerOrder order, OrderStatus previousStatus, String reason) {
+        return new OrderStatusEvent(
                 order.getId().toString(),
                 order.getUserId(),
                 order.getProductId(),
                 order.getProductName(),
                 order.getQuantity(),
+                resolveItems(order).stream()
+                        .map(item -> new OrderStatusEvent.Item(
+                                item.getProductId(),
+                                item.getProductName(),
+                                item.getQuantity(),
+                                item.getLineAmount()
+                        ))
+                        .toList(),
                 order.getTotalAmount(),
                 order.getCurrency(),
                 previousStatus,
@@ -288,7 +698,6 @@ public class OrderService {
                 reason,
                 Instant.now()
         );
-        orderStatusEventPublisher.publish(event);
     }
 
     private String resolvePaymentReason(PaymentEvent paymentEvent) {
@@ -307,10 +716,22 @@ public class OrderService {
                 .orElseThrow(() -> new ResourceNotFoundException("Order not found with id: " + orderId));
     }
 
-    private OrderResponse mapToResponse(CustomerOrder order) {
+    static OrderResponse mapToResponse(CustomerOrder order) {
+        List<OrderItemResponse> items = resolveItems(order).stream()
+                .map(item -> new OrderItemResponse(
+                        item.getProductId(),
+                        item.getProductName(),
+                        item.getQuantity(),
+                        item.getLineAmount(),
+                        item.getCurrency()
+                ))
+                .toList();
         return new OrderResponse(
                 order.getId(),
-                new OrderItemResponse(order.getProductId(), order.getProductName(), order.getQuantity(), order.getTotalAmount(), order.getCurrency()),
+                items.get(0),
+                items,
+                order.getTotalAmount(),
+                order.getCurrency(),
                 order.getStatus(),
                 order.getPaymentStatus(),
                 order.getRazorpayPaymentId(),
@@ -319,41 +740,76 @@ public class OrderService {
         );
     }
 
-    private UUID extractUserIdFromAuthorization(String authorization) {
-        if (authorization == null || !authorization.startsWith("Bearer ")) {
-            throw new BadRequestException("Missing or invalid Authorization header");
+    static OrderResponse mapToResponse(OrderView order, List<OrderItemView> itemViews) {
+        List<OrderItemResponse> items;
+        if (itemViews.isEmpty()) {
+            items = List.of(new OrderItemResponse(
+                    order.productId(),
+                    order.productName(),
+                    order.quantity(),
+                    order.totalAmount(),
+                    order.currency()
+            ));
+        } else {
+            items = itemViews.stream()
+                    .map(item -> new OrderItemResponse(
+                            item.productId(),
+                            item.productName(),
+                            item.quantity(),
+                            item.lineAmount(),
+                            item.currency()
+                    ))
+                    .toList();
         }
+        return new OrderResponse(
+                order.id(),
+                items.get(0),
+                items,
+                order.totalAmount(),
+                order.currency(),
+                order.status(),
+                order.paymentStatus(),
+                order.razorpayPaymentId(),
+                order.shipmentStatus(),
+                order.createdAt()
+        );
+    }
 
-        String token = authorization.substring(7);
-        try {
-            UUID userId = jwtService.extractUserId(token);
-            if (userId == null) {
-                throw new BadRequestException("userId not found in token");
-            }
-            return userId;
-        } catch (IllegalArgumentException ex) {
-            throw new BadRequestException("Invalid userId in token");
-        } catch (Exception ex) {
-            throw new BadRequestException("Unable to resolve userId from token");
+    private static List<OrderItem> resolveItems(CustomerOrder order) {
+        if (!order.getItems().isEmpty()) {
+            return order.getItems();
         }
+
+        // Orders created before multi-item support only carry the single line on the order row.
+        OrderItem legacyItem = new OrderItem();
+        legacyItem.setProductId(order.getProductId());
+        legacyItem.setProductName(order.getProductName());
+        legacyItem.setQuantity(order.getQuantity());
+        legacyItem.setLineAmount(order.getTotalAmount());
+        legacyItem.setCurrency(order.getCurrency());
+        return List.of(legacyItem);
     }
 
-    private String extractBearerToken(String authorization) {
-        if (authorization == null || !authorization.startsWith("Bearer ")) {
-            throw new AccessDeniedException("Missing or invalid Authorization header");
+    private Map<UUID, Integer> mergeLineItems(CreateOrderRequest request) {
+        List<CreateOrderRequest.ItemRequest> lineItems = request.lineItems();
+        if (lineItems.isEmpty()) {
+            throw new BadRequestException("At least one item is required");
         }
-        return authorization.substring(7);
-    }
 
-    private String normalizeRole(String role) {
-        if (role == null || role.isBlank()) {
-            throw new AccessDeniedException("Role claim missing in token");
+        Map<UUID, Integer> quantities = new LinkedHashMap<>();
+        for (CreateOrderRequest.ItemRequest lineItem : lineItems) {
+            quantities.merge(lineItem.productId(), lineItem.quantity(), Integer::sum);
         }
+        return quantities;
+    }
 
-        String trimmedRole = role.trim().toUpperCase(Locale.ROOT);
-        if (!trimmedRole.startsWith("ROLE_")) {
-            trimmedRole = "ROLE_" + trimmedRole;
+    private UUID requireUserId(AuthenticatedUser user) {
+        if (user == null) {
+            throw new BadRequestException("Missing or invalid Authorization header");
+        }
+        if (user.userId() == null) {
+            throw new BadRequestException("userId not found in token");
         }
-        return trimmedRole;
+        return user.userId();
     }
 }
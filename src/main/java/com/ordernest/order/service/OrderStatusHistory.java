@@ -0,0 +1,142 @@
+package com.ordernest.order.service;
+
+import com.ordernest.order.dto.OrderTimelineEntryResponse;
+import com.ordernest.order.entity.CustomerOrder;
+import com.ordernest.order.entity.OrderStatus;
+import com.ordernest.order.entity.PaymentStatus;
+import com.ordernest.order.entity.ShipmentStatus;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@RequiredArgsConstructor
+public class OrderStatusHistory {
+
+    private static final String INSERT_SQL = """
+            insert into order_status_history
+                (order_id, user_id, previous_status, status, payment_status, shipment_status, reason, at)
+            values (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String TIMELINE_SQL = """
+            select user_id, previous_status, status, payment_status, shipment_status, reason, at
+            from order_status_history
+            where order_id = ?
+            order by at, id
+            """;
+
+    private static final int MAX_REASON_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Writes an entry only if the order status, payment status or shipment status actually moved.
+    public void recordIfChanged(CustomerOrder order, Snapshot previous, String reason) {
+        if (previous != null && previous.equals(Snapshot.of(order))) {
+            return;
+        }
+        pendingEntries().add(new Entry(
+                order.getId(),
+                order.getUserId(),
+                previous == null ? null : previous.status(),
+                order.getStatus(),
+                order.getPaymentStatus(),
+                order.getShipmentStatus(),
+                reason == null || reason.length() <= MAX_REASON_LENGTH ? reason : reason.substring(0, MAX_REASON_LENGTH),
+                Instant.now()
+        ));
+    }
+
+    public void recordCreated(List<CustomerOrder> orders, String reason) {
+        orders.forEach(order -> recordIfChanged(order, null, reason));
+    }
+
+    public Timeline timeline(UUID orderId) {
+        List<UUID> owners = new ArrayList<>(1);
+        List<OrderTimelineEntryResponse> entries = jdbcTemplate.query(TIMELINE_SQL, (rs, rowNum) -> {
+            if (rowNum == 0) {
+                owners.add(rs.getObject("user_id", UUID.class));
+            }
+            String previousStatus = rs.getString("previous_status");
+            return new OrderTimelineEntryResponse(
+                    previousStatus == null ? null : OrderStatus.valueOf(previousStatus),
+                    OrderStatus.valueOf(rs.getString("status")),
+                    PaymentStatus.valueOf(rs.getString("payment_status")),
+                    ShipmentStatus.valueOf(rs.getString("shipment_status")),
+                    rs.getString("reason"),
+                    rs.getTimestamp("at").toInstant()
+            );
+        }, orderId);
+        return new Timeline(owners.isEmpty() ? null : owners.get(0), entries);
+    }
+
+    // Entries collect per transaction and go out as one JDBC batch just before commit, so they roll back with it.
+    private List<Entry> pendingEntries() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Order status history must be recorded inside a transaction");
+        }
+        @SuppressWarnings("unchecked")
+        List<Entry> pending = (List<Entry>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        List<Entry> entries = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, entries);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                writeBatch(entries);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(OrderStatusHistory.this);
+            }
+        });
+        return entries;
+    }
+
+    private void writeBatch(List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setObject(1, entry.orderId());
+            ps.setObject(2, entry.userId());
+            ps.setString(3, entry.previousStatus() == null ? null : entry.previousStatus().name());
+            ps.setString(4, entry.status().name());
+            ps.setString(5, entry.paymentStatus().name());
+            ps.setString(6, entry.shipmentStatus().name());
+            ps.setString(7, entry.reason());
+            ps.setTimestamp(8, Timestamp.from(entry.at()));
+        });
+    }
+
+    public record Snapshot(OrderStatus status, PaymentStatus paymentStatus, ShipmentStatus shipmentStatus) {
+
+        public static Snapshot of(CustomerOrder order) {
+            return new Snapshot(order.getStatus(), order.getPaymentStatus(), order.getShipmentStatus());
+        }
+    }
+
+    public record Timeline(UUID userId, List<OrderTimelineEntryResponse> entries) {
+    }
+
+    private record Entry(
+            UUID orderId,
+            UUID userId,
+            OrderStatus previousStatus,
+            OrderStatus status,
+            PaymentStatus paymentStatus,
+            ShipmentStatus shipmentStatus,
+            String reason,
+            Instant at
+    ) {
+    }
+}
@@ -0,0 +1,141 @@
+package com.ordernest.order.service;
+
+import com.ordernest.order.event.PaymentEventType;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Component
+public class PaymentEventDeduplicator {
+
+    private static final String CLAIM_SQL = """
+            insert into processed_payment_events (order_id, payment_id, event_type, processed_at)
+            select keys.order_id, keys.payment_id, keys.event_type, ?
+            from unnest(?::uuid[], ?::varchar[], ?::varchar[]) as keys(order_id, payment_id, event_type)
+            on conflict do nothing
+            returning order_id, payment_id, event_type
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration retention;
+    private final int recentCapacity;
+    private final ReentrantLock recentLock = new ReentrantLock();
+    private final Map<PaymentEventKey, Boolean> recent;
+
+    public PaymentEventDeduplicator(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.payment-events.dedupe.retention:7d}") Duration retention,
+            @Value("${app.payment-events.dedupe.recent-capacity:100000}") int recentCapacity
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retention = retention;
+        this.recentCapacity = recentCapacity;
+        this.recent = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PaymentEventKey, Boolean> eldest) {
+                return size() > PaymentEventDeduplicator.this.recentCapacity;
+            }
+        };
+    }
+
+    // Must run inside the transaction that applies the events, so a rollback also un-claims them.
+    public Set<PaymentEventKey> claim(Collection<PaymentEventKey> keys) {
+        Set<PaymentEventKey> candidates = new LinkedHashSet<>(keys);
+        recentLock.lock();
+        try {
+            candidates.removeIf(recent::containsKey);
+        } finally {
+            recentLock.unlock();
+        }
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+
+        List<PaymentEventKey> pending = List.copyOf(candidates);
+        Set<PaymentEventKey> claimed = new HashSet<>(jdbcTemplate.query(
+                (Connection connection) -> prepareClaim(connection, pending),
+                (rs, rowNum) -> new PaymentEventKey(
+                        rs.getObject("order_id", UUID.class),
+                        rs.getString("payment_id"),
+                        PaymentEventType.valueOf(rs.getString("event_type"))
+                )
+        ));
+
+        if (claimed.size() < pending.size()) {
+            log.debug("Skipped {} already processed payment events", pending.size() - claimed.size());
+        }
+        rememberAfterCommit(pending);
+        return claimed;
+    }
+
+    @Scheduled(fixedDelayString = "${app.payment-events.dedupe.cleanup-interval-ms:3600000}")
+    public void purgeExpired() {
+        int deleted = jdbcTemplate.update(
+                "delete from processed_payment_events where processed_at < ?",
+                Timestamp.from(Instant.now().minus(retention))
+        );
+        if (deleted > 0) {
+            log.info("Purged {} processed payment event keys older than {}", deleted, retention);
+        }
+    }
+
+    private PreparedStatement prepareClaim(Connection connection, List<PaymentEventKey> keys) throws SQLException {
+        Object[] orderIds = new Object[keys.size()];
+        Object[] paymentIds = new Object[keys.size()];
+        Object[] eventTypes = new Object[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            orderIds[i] = keys.get(i).orderId();
+            paymentIds[i] = keys.get(i).paymentId();
+            eventTypes[i] = keys.get(i).eventType().name();
+        }
+
+        Array orderIdArray = connection.createArrayOf("uuid", orderIds);
+        Array paymentIdArray = connection.createArrayOf("varchar", paymentIds);
+        Array eventTypeArray = connection.createArrayOf("varchar", eventTypes);
+
+        PreparedStatement statement = connection.prepareStatement(CLAIM_SQL);
+        statement.setTimestamp(1, Timestamp.from(Instant.now()));
+        statement.setArray(2, orderIdArray);
+        statement.setArray(3, paymentIdArray);
+        statement.setArray(4, eventTypeArray);
+        return statement;
+    }
+
+    private void rememberAfterCommit(List<PaymentEventKey> keys) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentLock.lock();
+                try {
+                    keys.forEach(key -> recent.put(key, Boolean.TRUE));
+                } finally {
+                    recentLock.unlock();
+                }
+            }
+        });
+    }
+}
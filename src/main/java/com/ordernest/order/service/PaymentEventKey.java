@@ -0,0 +1,16 @@
+package com.ordernest.order.service;
+
+import com.ordernest.order.event.PaymentEvent;
+import com.ordernest.order.event.PaymentEventType;
+import java.util.UUID;
+
+record PaymentEventKey(UUID orderId, String paymentId, PaymentEventType eventType) {
+
+    // Returns null without a paymentId: every such event would share one key and all but the first would be dropped.
+    static PaymentEventKey of(UUID orderId, PaymentEvent paymentEvent) {
+        if (paymentEvent.paymentId() == null || paymentEvent.paymentId().isBlank()) {
+            return null;
+        }
+        return new PaymentEventKey(orderId, paymentEvent.paymentId().trim(), paymentEvent.eventType());
+    }
+}
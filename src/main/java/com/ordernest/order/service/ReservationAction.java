@@ -0,0 +1,6 @@
+package com.ordernest.order.service;
+
+public enum ReservationAction {
+    COMMIT,
+    RELEASE
+}
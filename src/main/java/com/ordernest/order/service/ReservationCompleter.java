@@ -0,0 +1,148 @@
+package com.ordernest.order.service;
+
+import com.ordernest.order.client.InventoryClient;
+import com.ordernest.order.exception.ResourceNotFoundException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Commits or releases inventory reservations, and keeps retrying from inventory_reservation_tasks until it sticks.
+@Slf4j
+@Component
+public class ReservationCompleter {
+
+    private final InventoryClient inventoryClient;
+    private final ReservationTaskStore reservationTaskStore;
+    private final int batchSize;
+    private final Duration commitDelay;
+    private final Duration releaseGrace;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final AtomicLong pendingTasks = new AtomicLong();
+
+    public ReservationCompleter(
+            InventoryClient inventoryClient,
+            ReservationTaskStore reservationTaskStore,
+            @Value("${app.inventory.reservation-retry.batch-size:100}") int batchSize,
+            @Value("${app.inventory.reservation-retry.commit-delay:30s}") Duration commitDelay,
+            @Value("${app.inventory.reservation-retry.release-grace:5m}") Duration releaseGrace,
+            @Value("${app.inventory.reservation-retry.lease:30s}") Duration lease,
+            @Value("${app.inventory.reservation-retry.initial-backoff:5s}") Duration initialBackoff,
+            @Value("${app.inventory.reservation-retry.max-backoff:5m}") Duration maxBackoff
+    ) {
+        this.inventoryClient = inventoryClient;
+        this.reservationTaskStore = reservationTaskStore;
+        this.batchSize = batchSize;
+        this.commitDelay = commitDelay;
+        this.releaseGrace = releaseGrace;
+        this.lease = lease;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    // Recorded before reserving, so stock reserved for orders that are never saved (even after a crash) is released.
+    // Throws if the intent cannot be stored, which keeps the reservation from being made at all.
+    public void scheduleRelease(List<UUID> orderIds) {
+        reservationTaskStore.schedule(orderIds, ReservationAction.RELEASE, Instant.now().plus(releaseGrace));
+    }
+
+    // Inventory declined these reservations, so there is nothing to release.
+    public void cancelRelease(List<UUID> orderIds) {
+        if (!orderIds.isEmpty()) {
+            reservationTaskStore.completed(orderIds, ReservationAction.RELEASE);
+        }
+    }
+
+    // Must run inside the order transaction. It replaces the pending release, so the commit intent is durable exactly when the orders are.
+    public void scheduleCommit(List<UUID> orderIds) {
+        reservationTaskStore.schedule(orderIds, ReservationAction.COMMIT, Instant.now().plus(commitDelay));
+    }
+
+    // Never throws: a call that fails here is left queued for retryDue.
+    public void complete(List<UUID> orderIds, ReservationAction action, String authorization) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        try {
+            call(orderIds, action, authorization);
+            reservationTaskStore.completed(orderIds, action);
+            return;
+        } catch (ResourceNotFoundException ex) {
+            // Nothing left to act on; retrying cannot help.
+            log.warn("Inventory has no reservation to {} for orderIds={}", action, orderIds);
+            forget(orderIds, action);
+            return;
+        } catch (RuntimeException ex) {
+            log.warn("Failed to {} inventory reservations for orderIds={}, queued for retry", action, orderIds, ex);
+        }
+        try {
+            reservationTaskStore.schedule(orderIds, action, Instant.now().plus(initialBackoff));
+        } catch (RuntimeException ex) {
+            log.error("Could not queue {} of inventory reservations for orderIds={}", action, orderIds, ex);
+        }
+    }
+
+    private void forget(List<UUID> orderIds, ReservationAction action) {
+        try {
+            reservationTaskStore.completed(orderIds, action);
+        } catch (RuntimeException ex) {
+            // The queued task will hit the same 404 and be dropped by retryDue.
+            log.warn("Could not clear {} tasks for orderIds={}", action, orderIds, ex);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.inventory.reservation-retry.interval-ms:5000}")
+    public void retryDue() {
+        List<ReservationTaskStore.Task> tasks;
+        do {
+            tasks = reservationTaskStore.claimDue(batchSize, lease);
+            tasks.forEach(this::retry);
+        } while (tasks.size() >= batchSize);
+        pendingTasks.set(reservationTaskStore.countPending());
+    }
+
+    // Counted once per retry pass, so metric scrapes never query the table themselves.
+    public long pendingTasks() {
+        return pendingTasks.get();
+    }
+
+    private void retry(ReservationTaskStore.Task task) {
+        try {
+            call(List.of(task.orderId()), task.action(), inventoryClient.serviceAuthorization());
+            reservationTaskStore.completed(List.of(task.orderId()), task.action());
+            log.info("Completed queued {} of inventory reservation for orderId={} after {} attempts",
+                    task.action(), task.orderId(), task.attempts());
+        } catch (ResourceNotFoundException ex) {
+            // Nothing left to act on; retrying cannot help.
+            reservationTaskStore.completed(List.of(task.orderId()), task.action());
+            if (task.action() == ReservationAction.COMMIT) {
+                log.error("Inventory has no reservation to commit for persisted orderId={}", task.orderId());
+            } else {
+                log.warn("Inventory has no reservation to release for orderId={}", task.orderId());
+            }
+        } catch (RuntimeException ex) {
+            long backoffMillis = Math.min(
+                    maxBackoff.toMillis(),
+                    initialBackoff.toMillis() << Math.min(task.attempts() - 1, 20)
+            );
+            reservationTaskStore.retryLater(task, Instant.now().plusMillis(backoffMillis), String.valueOf(ex.getMessage()));
+            log.warn("Retry {} of inventory reservation {} for orderId={} failed: {}",
+                    task.attempts(), task.action(), task.orderId(), ex.getMessage());
+        }
+    }
+
+    private void call(List<UUID> orderIds, ReservationAction action, String authorization) {
+        if (action == ReservationAction.COMMIT) {
+            inventoryClient.commitReservations(orderIds, authorization);
+        } else {
+            inventoryClient.releaseReservations(orderIds, authorization);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.ordernest.order.service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ReservationTaskStore {
+
+    // A later intent for the same order replaces the earlier one, e.g. a pending release becoming a commit.
+    private static final String SCHEDULE_SQL = """
+            insert into inventory_reservation_tasks (order_id, action, attempts, next_attempt_at, created_at)
+            values (?, ?, 0, ?, ?)
+            on conflict (order_id) do update
+                set action = excluded.action,
+                    attempts = 0,
+                    next_attempt_at = excluded.next_attempt_at,
+                    last_error = null
+            """;
+
+    // Leasing the rows in the same statement keeps other pods off them until the lease runs out.
+    private static final String CLAIM_SQL = """
+            update inventory_reservation_tasks t
+            set next_attempt_at = ?, attempts = t.attempts + 1
+            where t.order_id in (
+                select order_id from inventory_reservation_tasks
+                where next_attempt_at <= ?
+                order by next_attempt_at
+                limit ?
+                for update skip locked
+            )
+            returning t.order_id, t.action, t.attempts
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void schedule(Collection<UUID> orderIds, ReservationAction action, Instant notBefore) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        Timestamp dueAt = Timestamp.from(notBefore);
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(SCHEDULE_SQL, orderIds, orderIds.size(), (ps, orderId) -> {
+            ps.setObject(1, orderId);
+            ps.setString(2, action.name());
+            ps.setTimestamp(3, dueAt);
+            ps.setTimestamp(4, now);
+        });
+    }
+
+    // Only removes the task if it still holds this action, so a newer intent for the order survives.
+    public void completed(Collection<UUID> orderIds, ReservationAction action) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "delete from inventory_reservation_tasks where order_id = ? and action = ?",
+                orderIds,
+                orderIds.size(),
+                (ps, orderId) -> {
+                    ps.setObject(1, orderId);
+                    ps.setString(2, action.name());
+                }
+        );
+    }
+
+    public List<Task> claimDue(int limit, Duration lease) {
+        Instant now = Instant.now();
+        return jdbcTemplate.query(
+                CLAIM_SQL,
+                (rs, rowNum) -> new Task(
+                        rs.getObject("order_id", UUID.class),
+                        ReservationAction.valueOf(rs.getString("action")),
+                        rs.getInt("attempts")
+                ),
+                Timestamp.from(now.plus(lease)),
+                Timestamp.from(now),
+                limit
+        );
+    }
+
+    public void retryLater(Task task, Instant nextAttemptAt, String error) {
+        jdbcTemplate.update(
+                "update inventory_reservation_tasks set next_attempt_at = ?, last_error = ? where order_id = ? and action = ?",
+                Timestamp.from(nextAttemptAt),
+                error == null || error.length() <= 1000 ? error : error.substring(0, 1000),
+                task.orderId(),
+                task.action().name()
+        );
+    }
+
+    public long countPending() {
+        Long count = jdbcTemplate.queryForObject("select count(*) from inventory_reservation_tasks", Long.class);
+        return count == null ? 0 : count;
+    }
+
+    public record Task(UUID orderId, ReservationAction action, int attempts) {
+    }
+}
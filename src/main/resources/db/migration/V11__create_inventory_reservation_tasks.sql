@@ -0,0 +1,12 @@
+-- Pending commit/release calls to inventory; a row exists until inventory has acknowledged the call.
+CREATE TABLE IF NOT EXISTS inventory_reservation_tasks (
+    order_id        UUID                        NOT NULL PRIMARY KEY,
+    action          VARCHAR(16)                 NOT NULL,
+    attempts        INTEGER                     NOT NULL,
+    next_attempt_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    last_error      VARCHAR(1000),
+    created_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_inventory_reservation_tasks_next_attempt_at
+    ON inventory_reservation_tasks (next_attempt_at);
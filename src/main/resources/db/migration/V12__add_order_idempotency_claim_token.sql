@@ -0,0 +1 @@
+ALTER TABLE order_idempotency_keys ADD COLUMN IF NOT EXISTS claim_token UUID;
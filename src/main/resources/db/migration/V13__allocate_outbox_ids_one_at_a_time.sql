@@ -0,0 +1,2 @@
+-- Pooled blocks of 50 let one pod hand out a lower id than another pod's earlier event for the same order.
+ALTER SEQUENCE outbox_events_id_seq INCREMENT BY 1;
@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS orders (
+    id                  UUID                        NOT NULL PRIMARY KEY,
+    user_id             UUID                        NOT NULL,
+    product_id          UUID                        NOT NULL,
+    product_name        VARCHAR(255),
+    quantity            INTEGER                     NOT NULL,
+    total_amount        NUMERIC(19, 2)              NOT NULL,
+    status              VARCHAR(255)                NOT NULL,
+    payment_status      VARCHAR(255)                NOT NULL,
+    shipment_status     VARCHAR(255)                NOT NULL,
+    currency            VARCHAR(255),
+    razorpay_payment_id VARCHAR(255),
+    created_at          TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
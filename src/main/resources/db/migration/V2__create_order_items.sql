@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS order_items (
+    id           UUID           NOT NULL PRIMARY KEY,
+    order_id     UUID           NOT NULL REFERENCES orders (id),
+    line_number  INTEGER        NOT NULL,
+    product_id   UUID           NOT NULL,
+    product_name VARCHAR(255),
+    quantity     INTEGER        NOT NULL,
+    unit_price   NUMERIC(19, 2) NOT NULL,
+    line_amount  NUMERIC(19, 2) NOT NULL,
+    currency     VARCHAR(255)
+);
@@ -0,0 +1,7 @@
+-- Backs the keyset-paginated GET /api/orders/me query.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_user_id_created_at_id
+    ON orders (user_id, created_at DESC, id DESC);
+
+-- Backs loading order lines by order id.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_order_items_order_id_line_number
+    ON order_items (order_id, line_number);
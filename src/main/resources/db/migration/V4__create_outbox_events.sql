@@ -0,0 +1,14 @@
+CREATE SEQUENCE IF NOT EXISTS outbox_events_id_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id              BIGINT                      NOT NULL PRIMARY KEY,
+    aggregate_id    VARCHAR(64)                 NOT NULL,
+    topic           VARCHAR(255)                NOT NULL,
+    payload         TEXT                        NOT NULL,
+    attempts        INTEGER                     NOT NULL,
+    next_attempt_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    last_error      VARCHAR(1000),
+    created_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_events_aggregate_id_id ON outbox_events (aggregate_id, id);
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS processed_payment_events (
+    order_id     UUID                        NOT NULL,
+    payment_id   VARCHAR(255)                NOT NULL,
+    event_type   VARCHAR(64)                 NOT NULL,
+    processed_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (order_id, payment_id, event_type)
+);
+
+CREATE INDEX IF NOT EXISTS idx_processed_payment_events_processed_at ON processed_payment_events (processed_at);
@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS order_idempotency_keys (
+    user_id             UUID                        NOT NULL,
+    idempotency_key     VARCHAR(255)                NOT NULL,
+    request_fingerprint VARCHAR(64)                 NOT NULL,
+    status              VARCHAR(32)                 NOT NULL,
+    order_id            UUID,
+    created_at          TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at          TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (user_id, idempotency_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_order_idempotency_keys_created_at ON order_idempotency_keys (created_at);
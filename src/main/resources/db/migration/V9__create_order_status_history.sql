@@ -0,0 +1,14 @@
+-- Append-only; no foreign key so history writes never lock or wait on the orders row.
+CREATE TABLE IF NOT EXISTS order_status_history (
+    id              BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    order_id        UUID                        NOT NULL,
+    user_id         UUID                        NOT NULL,
+    previous_status VARCHAR(32),
+    status          VARCHAR(32)                 NOT NULL,
+    payment_status  VARCHAR(32)                 NOT NULL,
+    shipment_status VARCHAR(32)                 NOT NULL,
+    reason          VARCHAR(255),
+    at              TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_order_status_history_order_id_at ON order_status_history (order_id, at);
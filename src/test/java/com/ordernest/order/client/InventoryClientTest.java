@@ -0,0 +1,125 @@
+package com.ordernest.order.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ordernest.order.exception.BadRequestException;
+import com.ordernest.order.exception.ResourceNotFoundException;
+import com.ordernest.order.exception.ServiceUnavailableException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InventoryClientTest {
+
+    private StandInInventoryServer inventory;
+    private InventoryClient inventoryClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        inventory = new StandInInventoryServer(new ObjectMapper(), Duration.ZERO, Duration.ZERO, 0);
+        inventoryClient = TestInventoryClients.forStandIn(inventory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        inventory.close();
+    }
+
+    @Test
+    void reservationsTakeDeltasFromCurrentStock() {
+        UUID productId = inventory.addProduct("keyboard", new BigDecimal("49.99"), 10);
+
+        InventoryReservationResponse first = reserve(UUID.randomUUID(), productId, 3);
+        InventoryReservationResponse second = reserve(UUID.randomUUID(), productId, 4);
+
+        assertThat(first.isReserved()).isTrue();
+        assertThat(second.isReserved()).isTrue();
+        assertThat(second.items()).singleElement()
+                .extracting(InventoryReservationResponse.Item::availableQuantity)
+                .isEqualTo(3);
+        assertThat(inventory.availableQuantity(productId)).isEqualTo(3);
+    }
+
+    @Test
+    void repeatedReservationForSameOrderTakesStockOnce() {
+        UUID productId = inventory.addProduct("keyboard", new BigDecimal("49.99"), 10);
+        UUID orderId = UUID.randomUUID();
+
+        reserve(orderId, productId, 4);
+        InventoryReservationResponse retried = reserve(orderId, productId, 4);
+
+        assertThat(retried.isReserved()).isTrue();
+        assertThat(inventory.availableQuantity(productId)).isEqualTo(6);
+        assertThat(inventory.openReservations()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectedReservationLeavesStockUntouched() {
+        UUID plentiful = inventory.addProduct("mouse", new BigDecimal("19.99"), 10);
+        UUID scarce = inventory.addProduct("monitor", new BigDecimal("199.99"), 1);
+        List<InventoryReservationRequest.Item> items = List.of(
+                new InventoryReservationRequest.Item(plentiful, 2),
+                new InventoryReservationRequest.Item(scarce, 2)
+        );
+
+        assertThatThrownBy(() -> inventoryClient.reserveStock(UUID.randomUUID(), items, null))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Insufficient inventory");
+        assertThat(inventory.availableQuantity(plentiful)).isEqualTo(10);
+        assertThat(inventory.availableQuantity(scarce)).isEqualTo(1);
+        assertThat(inventory.openReservations()).isZero();
+    }
+
+    @Test
+    void releaseReturnsStockAndCommitKeepsItTaken() {
+        UUID productId = inventory.addProduct("keyboard", new BigDecimal("49.99"), 10);
+        UUID released = UUID.randomUUID();
+        UUID committed = UUID.randomUUID();
+        reserve(released, productId, 2);
+        reserve(committed, productId, 3);
+
+        inventoryClient.releaseReservations(List.of(released), null);
+        inventoryClient.commitReservations(List.of(committed), null);
+
+        assertThat(inventory.availableQuantity(productId)).isEqualTo(7);
+        assertThat(inventory.openReservations()).isZero();
+    }
+
+    @Test
+    void completingUnknownReservationIsReportedAsNotFound() {
+        assertThatThrownBy(() -> inventoryClient.releaseReservations(List.of(UUID.randomUUID()), null))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void releaseIsNotRejectedWhileTheBreakerIsOpen() {
+        UUID productId = inventory.addProduct("keyboard", new BigDecimal("49.99"), 10);
+        UUID orderId = UUID.randomUUID();
+        reserve(orderId, productId, 2);
+
+        inventory.injectFaults(Duration.ZERO, Duration.ZERO, 1.0);
+        for (int i = 0; i < 20; i++) {
+            UUID unknownProductId = UUID.randomUUID();
+            assertThatThrownBy(() -> inventoryClient.getProductDetails(unknownProductId, null))
+                    .isInstanceOfAny(BadRequestException.class, ServiceUnavailableException.class);
+        }
+        assertThat(inventoryClient.getCircuitBreakerStats().state()).isEqualTo("OPEN");
+
+        inventory.injectFaults(Duration.ZERO, Duration.ZERO, 0);
+        inventoryClient.releaseReservations(List.of(orderId), null);
+
+        assertThat(inventory.availableQuantity(productId)).isEqualTo(10);
+        assertThat(inventory.hasOpenReservation(orderId)).isFalse();
+    }
+
+    private InventoryReservationResponse reserve(UUID orderId, UUID productId, int quantity) {
+        return inventoryClient.reserveStock(orderId, List.of(new InventoryReservationRequest.Item(productId, quantity)), null);
+    }
+}
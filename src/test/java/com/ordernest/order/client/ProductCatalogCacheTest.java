@@ -0,0 +1,71 @@
+package com.ordernest.order.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class ProductCatalogCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<UUID, InventoryProductResponse> loader = id -> {
+        loads.incrementAndGet();
+        return new InventoryProductResponse(id, "keyboard", new BigDecimal("49.99"), 10, "INR");
+    };
+
+    @Test
+    void quantityWriteThroughDoesNotExtendTheStaticTtl() throws InterruptedException {
+        ProductCatalogCache cache = cache(Duration.ofMillis(300), Duration.ofMinutes(1), 10);
+        UUID productId = UUID.randomUUID();
+        cache.getDetails(productId, loader);
+
+        Thread.sleep(200);
+        cache.updateAvailableQuantity(productId, 7);
+        assertThat(cache.getDetails(productId, loader).availableQuantity()).isEqualTo(7);
+        assertThat(loads).hasValue(1);
+
+        Thread.sleep(200);
+        cache.getDetails(productId, loader);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void quantityOlderThanItsTtlIsNotReported() throws InterruptedException {
+        ProductCatalogCache cache = cache(Duration.ofMinutes(1), Duration.ofMillis(50), 10);
+        UUID productId = UUID.randomUUID();
+        cache.getDetails(productId, loader);
+
+        Thread.sleep(100);
+        InventoryProductResponse cached = cache.getDetails(productId, loader);
+
+        assertThat(cached.name()).isEqualTo("keyboard");
+        assertThat(cached.availableQuantity()).isNull();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void fullCacheEvictsTheLeastRecentlyUsedProduct() {
+        ProductCatalogCache cache = cache(Duration.ofMinutes(1), Duration.ofMinutes(1), 2);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        cache.getDetails(first, loader);
+        cache.getDetails(second, loader);
+        cache.getDetails(first, loader);
+
+        cache.getDetails(UUID.randomUUID(), loader);
+        cache.getDetails(first, loader);
+        assertThat(loads).hasValue(3);
+
+        cache.getDetails(second, loader);
+        assertThat(loads).hasValue(4);
+        assertThat(cache.stats().evictions()).isEqualTo(2);
+    }
+
+    private ProductCatalogCache cache(Duration staticTtl, Duration quantityTtl, int maxSize) {
+        return new ProductCatalogCache(staticTtl, quantityTtl, Duration.ZERO, maxSize, Runnable::run, loader);
+    }
+}
@@ -0,0 +1,34 @@
+package com.ordernest.order.client;
+
+import com.ordernest.order.config.InventoryHttpClientConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+
+// Wires an InventoryClient the way the application does, pointed at a stand-in inventory server.
+public final class TestInventoryClients {
+
+    private TestInventoryClients() {
+    }
+
+    public static InventoryClient forStandIn(StandInInventoryServer inventory) {
+        InventoryHttpClientConfig config = new InventoryHttpClientConfig();
+        PoolingHttpClientConnectionManager connectionManager = config.inventoryConnectionManager(
+                20, 20, Duration.ofSeconds(1), Duration.ofSeconds(2), Duration.ofMinutes(1), Duration.ofSeconds(2));
+        return new InventoryClient(
+                config.inventoryRestClient(
+                        config.inventoryHttpClient(connectionManager, Duration.ofSeconds(2), Duration.ofSeconds(1), Duration.ofSeconds(30)),
+                        inventory.baseUrl()
+                ),
+                connectionManager,
+                new InventoryCircuitBreaker(50, 20, 50, Duration.ofSeconds(2), 80, Duration.ofSeconds(10), 5, 50, Duration.ofMillis(50)),
+                new SimpleMeterRegistry(),
+                Duration.ofMinutes(5),
+                Duration.ofSeconds(2),
+                Duration.ofSeconds(5),
+                1000,
+                "service-token",
+                Runnable::run
+        );
+    }
+}
@@ -0,0 +1,81 @@
+package com.ordernest.order.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PaymentEventOffsetsTest {
+
+    private static final TopicPartition PARTITION = new TopicPartition("payment.events", 0);
+
+    private PaymentEventOffsets offsets;
+    private MockConsumer<String, String> consumer;
+
+    @BeforeEach
+    void setUp() {
+        offsets = new PaymentEventOffsets(Duration.ofSeconds(1));
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.assign(List.of(PARTITION));
+    }
+
+    @Test
+    void commitsOnlyUpToTheLowestUnfinishedOffset() {
+        for (long offset = 10; offset < 15; offset++) {
+            offsets.track(PARTITION, offset);
+        }
+        offsets.completed(PARTITION, 10);
+        offsets.completed(PARTITION, 12);
+        offsets.completed(PARTITION, 13);
+
+        offsets.commit(consumer);
+        assertThat(committed()).isEqualTo(11);
+
+        offsets.completed(PARTITION, 11);
+        offsets.completed(PARTITION, 14);
+        offsets.commit(consumer);
+        assertThat(committed()).isEqualTo(15);
+    }
+
+    @Test
+    void laterPollsDoNotWaitForEarlierOnesToFinish() {
+        offsets.track(PARTITION, 0);
+        offsets.track(PARTITION, 1);
+        offsets.completed(PARTITION, 1);
+        offsets.commit(consumer);
+        assertThat(committed()).isZero();
+
+        offsets.track(PARTITION, 2);
+        offsets.completed(PARTITION, 0);
+        offsets.commit(consumer);
+        assertThat(committed()).isEqualTo(2);
+    }
+
+    @Test
+    void revokedPartitionsCommitFinishedWorkAndAreForgotten() {
+        offsets.track(PARTITION, 0);
+        offsets.track(PARTITION, 1);
+        offsets.completed(PARTITION, 0);
+
+        offsets.onPartitionsRevokedBeforeCommit(consumer, List.of(PARTITION));
+        assertThat(committed()).isEqualTo(1);
+
+        offsets.completed(PARTITION, 1);
+        offsets.commit(consumer);
+        assertThat(committed()).isEqualTo(1);
+    }
+
+    private long committed() {
+        Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(Set.of(PARTITION));
+        OffsetAndMetadata offset = committed.get(PARTITION);
+        return offset == null ? 0 : offset.offset();
+    }
+}
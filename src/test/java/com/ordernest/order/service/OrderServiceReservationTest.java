@@ -0,0 +1,267 @@
+package com.ordernest.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ordernest.order.client.InventoryClient;
+import com.ordernest.order.client.InventoryReservationResponse;
+import com.ordernest.order.client.StandInInventoryServer;
+import com.ordernest.order.client.TestInventoryClients;
+import com.ordernest.order.dto.BulkCreateOrderRequest;
+import com.ordernest.order.dto.BulkCreateOrderResponse;
+import com.ordernest.order.dto.CreateOrderRequest;
+import com.ordernest.order.dto.CreateOrderResponse;
+import com.ordernest.order.entity.CustomerOrder;
+import com.ordernest.order.exception.BadRequestException;
+import com.ordernest.order.exception.ConflictException;
+import com.ordernest.order.messaging.OrderCacheInvalidationPublisher;
+import com.ordernest.order.messaging.OrderCancellationEventPublisher;
+import com.ordernest.order.messaging.OrderStatusEventPublisher;
+import com.ordernest.order.messaging.ShipmentStatusEventPublisher;
+import com.ordernest.order.repository.OrderRepository;
+import com.ordernest.order.security.AuthenticatedUser;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class OrderServiceReservationTest {
+
+    private static final int STOCK = 5;
+
+    private StandInInventoryServer inventory;
+    private InventoryClient inventoryClient;
+    private OrderRepository orderRepository;
+    private OrderIdempotencyStore orderIdempotencyStore;
+    private ReservationTaskStore reservationTaskStore;
+    private ReservationCompleter reservationCompleter;
+    private OrderService orderService;
+    private AuthenticatedUser user;
+    private UUID productId;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        inventory = new StandInInventoryServer(new ObjectMapper(), Duration.ZERO, Duration.ZERO, 0);
+        productId = inventory.addProduct("keyboard", new BigDecimal("49.99"), STOCK);
+
+        inventoryClient = spy(TestInventoryClients.forStandIn(inventory));
+        orderRepository = mock(OrderRepository.class);
+        orderIdempotencyStore = mock(OrderIdempotencyStore.class);
+        reservationTaskStore = mock(ReservationTaskStore.class);
+        reservationCompleter = new ReservationCompleter(
+                inventoryClient,
+                reservationTaskStore,
+                100,
+                Duration.ofSeconds(30),
+                Duration.ofMinutes(5),
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(5)
+        );
+
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        orderService = new OrderService(
+                orderRepository,
+                inventoryClient,
+                mock(OrderCancellationEventPublisher.class),
+                mock(OrderStatusEventPublisher.class),
+                mock(ShipmentStatusEventPublisher.class),
+                mock(PaymentEventDeduplicator.class),
+                mock(OptimisticLockRetry.class),
+                transactionTemplate,
+                orderIdempotencyStore,
+                mock(OrderResponseCache.class),
+                mock(OrderCacheInvalidationPublisher.class),
+                mock(OrderMetrics.class),
+                mock(OrderStatusHistory.class),
+                reservationCompleter
+        );
+        user = new AuthenticatedUser(UUID.randomUUID(), "buyer@ordernest.com", AuthenticatedUser.ROLE_USER,
+                Instant.now().plusSeconds(3600));
+    }
+
+    @AfterEach
+    void tearDown() {
+        inventory.close();
+    }
+
+    @Test
+    void persistedOrderCommitsItsReservation() {
+        when(orderRepository.save(any(CustomerOrder.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        CreateOrderResponse response = orderService.createOrder(request(2), user, null, null);
+
+        assertThat(inventory.availableQuantity(productId)).isEqualTo(STOCK - 2);
+        assertThat(inventory.hasOpenReservation(response.orderId())).isFalse();
+        verify(reservationTaskStore).schedule(eq(List.of(response.orderId())), eq(ReservationAction.COMMIT), any(Instant.class));
+        verify(reservationTaskStore).completed(List.of(response.orderId()), ReservationAction.COMMIT);
+    }
+
+    @Test
+    void failedPersistenceReleasesTheReservation() {
+        when(orderRepository.save(any(CustomerOrder.class))).thenThrow(new DataAccessResourceFailureException("database down"));
+
+        assertThatThrownBy(() -> orderService.createOrder(request(2), user, null, null))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+
+        assertThat(inventory.availableQuantity(productId)).isEqualTo(STOCK);
+        assertThat(inventory.openReservations()).isZero();
+        verify(reservationTaskStore).completed(anyList(), eq(ReservationAction.RELEASE));
+    }
+
+    @Test
+    void reservationAnsweredWithoutReservedStatusFailsTheOrder() {
+        doReturn(new InventoryReservationResponse(null, "REJECTED", "Insufficient inventory", List.of()))
+                .when(inventoryClient).reserveStock(any(UUID.class), anyList(), any());
+
+        assertThatThrownBy(() -> orderService.createOrder(request(2), user, null, null))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Insufficient inventory");
+
+        verify(orderRepository, never()).save(any(CustomerOrder.class));
+        verify(reservationTaskStore).completed(anyList(), eq(ReservationAction.RELEASE));
+    }
+
+    @Test
+    void releaseIsRecordedBeforeStockIsReserved() {
+        when(orderRepository.save(any(CustomerOrder.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        CreateOrderResponse response = orderService.createOrder(request(2), user, null, null);
+
+        List<UUID> orderIds = List.of(response.orderId());
+        InOrder inOrder = inOrder(reservationTaskStore, inventoryClient);
+        inOrder.verify(reservationTaskStore).schedule(eq(orderIds), eq(ReservationAction.RELEASE), any(Instant.class));
+        inOrder.verify(inventoryClient).reserveStock(eq(response.orderId()), anyList(), any());
+        inOrder.verify(reservationTaskStore).schedule(eq(orderIds), eq(ReservationAction.COMMIT), any(Instant.class));
+    }
+
+    @Test
+    void reservationIsNotAttemptedWhenTheReleaseCannotBeRecorded() {
+        doThrow(new DataAccessResourceFailureException("database down"))
+                .when(reservationTaskStore).schedule(anyList(), eq(ReservationAction.RELEASE), any(Instant.class));
+
+        assertThatThrownBy(() -> orderService.createOrder(request(2), user, null, null))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+
+        assertThat(inventory.openReservations()).isZero();
+        assertThat(inventory.availableQuantity(productId)).isEqualTo(STOCK);
+    }
+
+    @Test
+    void releaseThatFailsIsQueuedAndRetriedLater() {
+        when(orderRepository.save(any(CustomerOrder.class))).thenAnswer(invocation -> {
+            inventory.injectFaults(Duration.ZERO, Duration.ZERO, 1.0);
+            throw new DataAccessResourceFailureException("database down");
+        });
+
+        assertThatThrownBy(() -> orderService.createOrder(request(3), user, null, null))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UUID>> queued = ArgumentCaptor.forClass(List.class);
+        verify(reservationTaskStore, times(2)).schedule(queued.capture(), eq(ReservationAction.RELEASE), any(Instant.class));
+        assertThat(inventory.availableQuantity(productId)).isEqualTo(STOCK - 3);
+
+        inventory.injectFaults(Duration.ZERO, Duration.ZERO, 0);
+        UUID orderId = queued.getValue().get(0);
+        when(reservationTaskStore.claimDue(anyInt(), any(Duration.class)))
+                .thenReturn(List.of(new ReservationTaskStore.Task(orderId, ReservationAction.RELEASE, 1)));
+        reservationCompleter.retryDue();
+
+        assertThat(inventory.availableQuantity(productId)).isEqualTo(STOCK);
+        assertThat(inventory.openReservations()).isZero();
+    }
+
+    @Test
+    void commitThatFailsStaysQueued() {
+        when(orderRepository.save(any(CustomerOrder.class))).thenAnswer(invocation -> {
+            inventory.injectFaults(Duration.ZERO, Duration.ZERO, 1.0);
+            return invocation.getArgument(0);
+        });
+
+        CreateOrderResponse response = orderService.createOrder(request(1), user, null, null);
+
+        assertThat(inventory.hasOpenReservation(response.orderId())).isTrue();
+        verify(reservationTaskStore, never()).completed(anyList(), eq(ReservationAction.COMMIT));
+    }
+
+    @Test
+    void idempotentReplayDoesNotReserveAgain() {
+        UUID existingOrderId = UUID.randomUUID();
+        when(orderIdempotencyStore.claimOrAwait(eq(user.userId()), anyString(), anyMap()))
+                .thenReturn(new OrderIdempotencyStore.Claim(user.userId(), "checkout-42", null, existingOrderId));
+
+        CreateOrderResponse response = orderService.createOrder(request(2), user, null, "checkout-42");
+
+        assertThat(response.orderId()).isEqualTo(existingOrderId);
+        assertThat(inventory.requestCount()).isZero();
+        assertThat(inventory.availableQuantity(productId)).isEqualTo(STOCK);
+    }
+
+    @Test
+    void failedBatchLookupOnlyFailsTheAffectedOrders() {
+        UUID missingProductId = UUID.randomUUID();
+        doThrow(new BadRequestException("Unable to verify inventory right now"))
+                .when(inventoryClient).getProductsDetails(anyCollection(), any());
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BulkCreateOrderResponse response = orderService.createOrders(new BulkCreateOrderRequest(List.of(
+                request(2),
+                new CreateOrderRequest(new CreateOrderRequest.ItemRequest(missingProductId, 1), null)
+        )), user, null);
+
+        assertThat(response.results()).extracting(BulkCreateOrderResponse.Result::status)
+                .containsExactly(BulkCreateOrderResponse.Status.CREATED, BulkCreateOrderResponse.Status.FAILED);
+        assertThat(response.results().get(1).error()).contains(missingProductId.toString());
+        assertThat(inventory.availableQuantity(productId)).isEqualTo(STOCK - 2);
+    }
+
+    @Test
+    void claimTakenOverMidRequestRollsTheOrderBack() {
+        OrderIdempotencyStore.Claim claim = new OrderIdempotencyStore.Claim(user.userId(), "checkout-42", UUID.randomUUID(), null);
+        when(orderIdempotencyStore.claimOrAwait(eq(user.userId()), anyString(), anyMap())).thenReturn(claim);
+        when(orderRepository.save(any(CustomerOrder.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new ConflictException("taken over")).when(orderIdempotencyStore).complete(eq(claim), any(UUID.class));
+
+        assertThatThrownBy(() -> orderService.createOrder(request(2), user, null, "checkout-42"))
+                .isInstanceOf(ConflictException.class);
+
+        assertThat(inventory.availableQuantity(productId)).isEqualTo(STOCK);
+        assertThat(inventory.openReservations()).isZero();
+        verify(orderIdempotencyStore).abandon(claim);
+    }
+
+    private CreateOrderRequest request(int quantity) {
+        return new CreateOrderRequest(new CreateOrderRequest.ItemRequest(productId, quantity), null);
+    }
+}
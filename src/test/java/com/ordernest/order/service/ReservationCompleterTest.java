@@ -0,0 +1,129 @@
+package com.ordernest.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ordernest.order.client.InventoryClient;
+import com.ordernest.order.client.InventoryReservationRequest;
+import com.ordernest.order.client.StandInInventoryServer;
+import com.ordernest.order.client.TestInventoryClients;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class ReservationCompleterTest {
+
+    private StandInInventoryServer inventory;
+    private InventoryClient inventoryClient;
+    private ReservationTaskStore reservationTaskStore;
+    private ReservationCompleter reservationCompleter;
+    private UUID productId;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        inventory = new StandInInventoryServer(new ObjectMapper(), Duration.ZERO, Duration.ZERO, 0);
+        inventoryClient = TestInventoryClients.forStandIn(inventory);
+        reservationTaskStore = mock(ReservationTaskStore.class);
+        reservationCompleter = new ReservationCompleter(
+                inventoryClient,
+                reservationTaskStore,
+                100,
+                Duration.ofSeconds(30),
+                Duration.ofMinutes(5),
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(5)
+        );
+        productId = inventory.addProduct("keyboard", new BigDecimal("49.99"), 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        inventory.close();
+    }
+
+    @Test
+    void successfulCommitClearsTheQueuedTask() {
+        UUID orderId = reserve(4);
+
+        reservationCompleter.complete(List.of(orderId), ReservationAction.COMMIT, null);
+
+        assertThat(inventory.hasOpenReservation(orderId)).isFalse();
+        assertThat(inventory.availableQuantity(productId)).isEqualTo(6);
+        verify(reservationTaskStore).completed(List.of(orderId), ReservationAction.COMMIT);
+        verify(reservationTaskStore, never()).schedule(anyList(), any(), any());
+    }
+
+    @Test
+    void failedReleaseIsQueuedAndRetriedUntilStockIsReturned() {
+        UUID orderId = reserve(4);
+        inventory.injectFaults(Duration.ZERO, Duration.ZERO, 1.0);
+
+        reservationCompleter.complete(List.of(orderId), ReservationAction.RELEASE, null);
+
+        verify(reservationTaskStore).schedule(eq(List.of(orderId)), eq(ReservationAction.RELEASE), any(Instant.class));
+        verify(reservationTaskStore, never()).completed(anyList(), any());
+        assertThat(inventory.availableQuantity(productId)).isEqualTo(6);
+
+        inventory.injectFaults(Duration.ZERO, Duration.ZERO, 0);
+        ReservationTaskStore.Task task = new ReservationTaskStore.Task(orderId, ReservationAction.RELEASE, 1);
+        when(reservationTaskStore.claimDue(anyInt(), any(Duration.class))).thenReturn(List.of(task));
+
+        reservationCompleter.retryDue();
+
+        assertThat(inventory.availableQuantity(productId)).isEqualTo(10);
+        assertThat(inventory.hasOpenReservation(orderId)).isFalse();
+        verify(reservationTaskStore).completed(List.of(orderId), ReservationAction.RELEASE);
+    }
+
+    @Test
+    void failedRetryBacksOffInsteadOfDroppingTheTask() {
+        UUID orderId = reserve(2);
+        inventory.injectFaults(Duration.ZERO, Duration.ZERO, 1.0);
+        ReservationTaskStore.Task task = new ReservationTaskStore.Task(orderId, ReservationAction.COMMIT, 3);
+        when(reservationTaskStore.claimDue(anyInt(), any(Duration.class))).thenReturn(List.of(task));
+        Instant before = Instant.now();
+
+        reservationCompleter.retryDue();
+
+        ArgumentCaptor<Instant> nextAttempt = ArgumentCaptor.forClass(Instant.class);
+        verify(reservationTaskStore).retryLater(eq(task), nextAttempt.capture(), anyString());
+        // Third attempt: 5s doubled twice.
+        assertThat(nextAttempt.getValue()).isAfterOrEqualTo(before.plusSeconds(20));
+        verify(reservationTaskStore, never()).completed(anyList(), any());
+        assertThat(inventory.hasOpenReservation(orderId)).isTrue();
+    }
+
+    @Test
+    void retryForReservationInventoryNoLongerHasIsDropped() {
+        ReservationTaskStore.Task task = new ReservationTaskStore.Task(UUID.randomUUID(), ReservationAction.RELEASE, 1);
+        when(reservationTaskStore.claimDue(anyInt(), any(Duration.class))).thenReturn(List.of(task));
+
+        reservationCompleter.retryDue();
+
+        verify(reservationTaskStore).completed(List.of(task.orderId()), ReservationAction.RELEASE);
+        verify(reservationTaskStore, never()).retryLater(any(), any(), any());
+    }
+
+    private UUID reserve(int quantity) {
+        UUID orderId = UUID.randomUUID();
+        inventoryClient.reserveStock(orderId, List.of(new InventoryReservationRequest.Item(productId, quantity)), null);
+        return orderId;
+    }
+}
@@ -0,0 +1,261 @@
+package com.ordernest.order.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Speaks just enough of the inventory service's API for the order service, with latency and failure injection.
+public class StandInInventoryServer implements AutoCloseable {
+
+    private static final String STATUS_REJECTED = "REJECTED";
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ObjectMapper objectMapper;
+    private final Map<UUID, Product> catalog = new ConcurrentHashMap<>();
+    private final Map<UUID, InventoryReservationRequest> reservations = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder injectedFailures = new LongAdder();
+
+    private volatile Duration latency;
+    private volatile Duration jitter;
+    private volatile double failureRate;
+
+    public StandInInventoryServer(ObjectMapper objectMapper, Duration latency, Duration jitter, double failureRate)
+            throws IOException {
+        this.objectMapper = objectMapper;
+        this.latency = latency;
+        this.jitter = jitter;
+        this.failureRate = failureRate;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        this.server.setExecutor(executor);
+        this.server.createContext("/api/products", this::handleProducts);
+        this.server.createContext("/api/reservations", this::handleReservations);
+        this.server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public UUID addProduct(String name, BigDecimal price, int quantity) {
+        UUID productId = UUID.randomUUID();
+        catalog.put(productId, new Product(productId, name, price, new AtomicInteger(quantity)));
+        return productId;
+    }
+
+    public int availableQuantity(UUID productId) {
+        return catalog.get(productId).available().get();
+    }
+
+    public int openReservations() {
+        return reservations.size();
+    }
+
+    public boolean hasOpenReservation(UUID orderId) {
+        return reservations.containsKey(orderId);
+    }
+
+    public long requestCount() {
+        return requests.sum();
+    }
+
+    public long injectedFailureCount() {
+        return injectedFailures.sum();
+    }
+
+    public void injectFaults(Duration latency, Duration jitter, double failureRate) {
+        this.latency = latency;
+        this.jitter = jitter;
+        this.failureRate = failureRate;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handleProducts(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!injectFaults(exchange)) {
+                return;
+            }
+            String path = exchange.getRequestURI().getPath();
+            if ("/api/products".equals(path)) {
+                List<InventoryProductResponse> products = new ArrayList<>();
+                for (UUID productId : queryIds(exchange.getRequestURI().getRawQuery())) {
+                    Product product = catalog.get(productId);
+                    if (product != null) {
+                        products.add(product.toResponse());
+                    }
+                }
+                respond(exchange, 200, products);
+                return;
+            }
+
+            Product product = catalog.get(UUID.fromString(path.substring("/api/products/".length())));
+            if (product == null) {
+                respond(exchange, 404, Map.of("message", "Product not found"));
+            } else {
+                respond(exchange, 200, product.toResponse());
+            }
+        }
+    }
+
+    private void handleReservations(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!injectFaults(exchange)) {
+                return;
+            }
+            String path = exchange.getRequestURI().getPath();
+            byte[] body = exchange.getRequestBody().readAllBytes();
+
+            if ("/api/reservations".equals(path)) {
+                InventoryReservationResponse response = reserve(objectMapper.readValue(body, InventoryReservationRequest.class));
+                respond(exchange, response.isReserved() ? 200 : 409, response);
+            } else if ("/api/reservations/bulk".equals(path)) {
+                InventoryReservationRequest[] requests = objectMapper.readValue(body, InventoryReservationRequest[].class);
+                List<InventoryReservationResponse> responses = new ArrayList<>(requests.length);
+                for (InventoryReservationRequest request : requests) {
+                    responses.add(reserve(request));
+                }
+                respond(exchange, 200, responses);
+            } else if (path.startsWith("/api/reservations/bulk/")) {
+                boolean commit = path.endsWith("/commit");
+                for (UUID orderId : objectMapper.readValue(body, InventoryReservationBatchRequest.class).orderIds()) {
+                    complete(orderId, commit);
+                }
+                respond(exchange, 200, Map.of());
+            } else {
+                String[] segments = path.split("/");
+                UUID orderId = UUID.fromString(segments[3]);
+                boolean found = complete(orderId, "commit".equals(segments[4]));
+                respond(exchange, found ? 200 : 404, Map.of());
+            }
+        }
+    }
+
+    // Returns false once an injected failure has been written, so the handler stops there.
+    private boolean injectFaults(HttpExchange exchange) throws IOException {
+        requests.increment();
+        long delayMillis = latency.toMillis();
+        if (!jitter.isZero()) {
+            delayMillis += ThreadLocalRandom.current().nextLong(jitter.toMillis() + 1);
+        }
+        if (delayMillis > 0) {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+            injectedFailures.increment();
+            respond(exchange, 503, Map.of("message", "Injected failure"));
+            return false;
+        }
+        return true;
+    }
+
+    private InventoryReservationResponse reserve(InventoryReservationRequest request) {
+        // Same orderId means a retry of a reservation that already went through.
+        if (reservations.containsKey(request.orderId())) {
+            return reserved(request);
+        }
+
+        List<InventoryReservationRequest.Item> taken = new ArrayList<>(request.items().size());
+        for (InventoryReservationRequest.Item item : request.items()) {
+            Product product = catalog.get(item.productId());
+            if (product == null || !tryTake(product.available(), item.quantity())) {
+                taken.forEach(done -> catalog.get(done.productId()).available().addAndGet(done.quantity()));
+                return new InventoryReservationResponse(request.orderId(), STATUS_REJECTED, "Insufficient inventory", List.of());
+            }
+            taken.add(item);
+        }
+        reservations.put(request.orderId(), request);
+        return reserved(request);
+    }
+
+    private InventoryReservationResponse reserved(InventoryReservationRequest request) {
+        List<InventoryReservationResponse.Item> items = request.items().stream()
+                .map(item -> new InventoryReservationResponse.Item(
+                        item.productId(),
+                        item.quantity(),
+                        catalog.get(item.productId()).available().get()
+                ))
+                .toList();
+        return new InventoryReservationResponse(request.orderId(), InventoryReservationResponse.STATUS_RESERVED, null, items);
+    }
+
+    private boolean complete(UUID orderId, boolean commit) {
+        InventoryReservationRequest reservation = reservations.remove(orderId);
+        if (reservation == null) {
+            return false;
+        }
+        if (!commit) {
+            reservation.items().forEach(item -> catalog.get(item.productId()).available().addAndGet(item.quantity()));
+        }
+        return true;
+    }
+
+    private boolean tryTake(AtomicInteger available, int quantity) {
+        while (true) {
+            int current = available.get();
+            if (current < quantity) {
+                return false;
+            }
+            if (available.compareAndSet(current, current - quantity)) {
+                return true;
+            }
+        }
+    }
+
+    private List<UUID> queryIds(String rawQuery) {
+        List<UUID> ids = new ArrayList<>();
+        if (rawQuery == null) {
+            return ids;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            if (parameter.startsWith("ids=")) {
+                String value = URLDecoder.decode(parameter.substring(4), StandardCharsets.UTF_8);
+                for (String id : value.split(",")) {
+                    ids.add(UUID.fromString(id.trim()));
+                }
+            }
+        }
+        return ids;
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private record Product(UUID id, String name, BigDecimal price, AtomicInteger available) {
+        InventoryProductResponse toResponse() {
+            return new InventoryProductResponse(id, name, price, available.get(), "INR");
+        }
+    }
+}